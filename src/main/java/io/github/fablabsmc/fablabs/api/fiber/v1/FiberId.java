@@ -1,6 +1,8 @@
 package io.github.fablabsmc.fablabs.api.fiber.v1;
 
-import java.util.Objects;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 import javax.annotation.Nonnull;
 
@@ -10,14 +12,61 @@ import javax.annotation.Nonnull;
  *
  * <p>A {@code FiberId} contains two names: the domain and the name. The domain and name
  * may be represented as a single string by separating them with a colon ({@code :}).
+ *
+ * <p>Ids obtained through {@link #of(String, String)} or {@link #intern()} are canonical:
+ * two equal canonical ids are always the same instance. Ids created with the constructor are not canonical,
+ * so ids must always be compared with {@link #equals(Object)}. Comparing canonical ids is merely faster,
+ * as it only takes an identity check.
  */
 public final class FiberId {
+	/**
+	 * Canonical ids, weakly referenced both as keys and values so that unused ids can be collected.
+	 */
+	private static final Map<FiberId, WeakReference<FiberId>> POOL = new WeakHashMap<>();
+
 	private final String domain;
 	private final String name;
+	private final String string;
+	private final int hash;
 
 	public FiberId(@Nonnull String domain, @Nonnull String name) {
 		this.domain = domain;
 		this.name = name;
+		this.string = domain + ":" + name;
+		this.hash = 31 * domain.hashCode() + name.hashCode();
+	}
+
+	/**
+	 * Returns the canonical id with the given domain and name.
+	 *
+	 * @param domain the domain of the id
+	 * @param name   the name of the id
+	 * @return a canonical {@code FiberId}
+	 */
+	public static FiberId of(@Nonnull String domain, @Nonnull String name) {
+		return new FiberId(domain, name).intern();
+	}
+
+	/**
+	 * Returns the canonical id equal to this one.
+	 *
+	 * <p>The first id interned for a given domain and name becomes the canonical one.
+	 * Canonical ids are only weakly referenced by the pool, so they are discarded once no longer in use.
+	 *
+	 * @return a canonical {@code FiberId} equal to this one
+	 */
+	public FiberId intern() {
+		synchronized (POOL) {
+			WeakReference<FiberId> ref = POOL.get(this);
+			FiberId canonical = ref == null ? null : ref.get();
+
+			if (canonical != null) {
+				return canonical;
+			}
+
+			POOL.put(this, new WeakReference<>(this));
+			return this;
+		}
 	}
 
 	public String getName() {
@@ -30,7 +79,7 @@ public final class FiberId {
 
 	@Override
 	public String toString() {
-		return getDomain() + ":" + getName();
+		return this.string;
 	}
 
 	@Override
@@ -44,11 +93,11 @@ public final class FiberId {
 		}
 
 		FiberId fiberId = (FiberId) o;
-		return domain.equals(fiberId.domain) && name.equals(fiberId.name);
+		return hash == fiberId.hash && domain.equals(fiberId.domain) && name.equals(fiberId.name);
 	}
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(domain, name);
+		return this.hash;
 	}
 }
@@ -37,7 +37,7 @@ public class ConfigLeafBuilder<T, R> extends ConfigNodeBuilder {
 	 * @return A new builder.
 	 */
 	public static <T, R> ConfigLeafBuilder<T, R> create(ConfigTreeBuilder parentNode, @Nonnull String name, @Nonnull ConfigType<R, T, ?> type, @Nonnull R defaultValue) {
-		return new ConfigLeafBuilder<>(parentNode, name, type.getSerializedType(), type.toSerializedType(defaultValue), type::toRuntimeType, type::toSerializedType);
+		return new ConfigLeafBuilder<>(parentNode, name, type.getSerializedType(), type.toSerializedType(defaultValue), type::toRuntimeTypeUnchecked, type::toSerializedType);
 	}
 
 	/**
@@ -186,7 +186,7 @@ public class ConfigLeafBuilder<T, R> extends ConfigNodeBuilder {
 		}
 
 		ConfigLeaf<T> built = new ConfigLeafImpl<>(Objects.requireNonNull(name, "Cannot build a value without a name"), type, comment, defaultValue, consumer);
-		built.getAttributes().putAll(this.attributes);
+		if (!this.attributes.isEmpty()) built.getAttributes().putAll(this.attributes);
 
 		if (parent != null) {
 			// We don't know what kind of evil collection we're about to add a node to.
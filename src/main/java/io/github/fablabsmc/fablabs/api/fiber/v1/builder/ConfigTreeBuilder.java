@@ -55,6 +55,7 @@ public class ConfigTreeBuilder extends ConfigNodeBuilder implements ConfigTree {
 	@Nullable
 	private String comment;
 	private boolean serializeSeparately;
+	private boolean indexPaths;
 
 	/**
 	 * Creates a new builder with initial settings.
@@ -252,6 +253,21 @@ public class ConfigTreeBuilder extends ConfigNodeBuilder implements ConfigTree {
 		return this;
 	}
 
+	/**
+	 * Makes the built tree index the paths of all its descendants.
+	 *
+	 * <p>An indexed tree resolves {@linkplain ConfigTree#lookupPath(java.util.List) paths}
+	 * and {@linkplain io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigQuery queries} with a single lookup,
+	 * regardless of their length. The index is kept up to date as nodes are added to
+	 * or removed from the tree, at the cost of some memory per node.
+	 *
+	 * @return {@code this}, for chaining
+	 */
+	public ConfigTreeBuilder withPathIndex() {
+		this.indexPaths = true;
+		return this;
+	}
+
 	/**
 	 * Configure this builder using a POJO (Plain Old Java Object).
 	 *
@@ -447,8 +463,8 @@ public class ConfigTreeBuilder extends ConfigNodeBuilder implements ConfigTree {
 	@Override
 	public ConfigBranch build() throws RuntimeFiberException {
 		try {
-			ConfigBranch built = new ConfigBranchImpl(this.name, this.comment, this.items, this.serializeSeparately);
-			built.getAttributes().putAll(this.attributes);
+			ConfigBranch built = new ConfigBranchImpl(this.name, this.comment, this.items, this.serializeSeparately, this.indexPaths);
+			if (!this.attributes.isEmpty()) built.getAttributes().putAll(this.attributes);
 
 			if (this.parent != null) {
 				assert name != null;
@@ -1,6 +1,10 @@
 package io.github.fablabsmc.fablabs.api.fiber.v1.schema.type;
 
+import java.io.IOException;
+
 import io.github.fablabsmc.fablabs.api.fiber.v1.exception.ValueDeserializationException;
+import io.github.fablabsmc.fablabs.api.fiber.v1.serialization.StreamingDeserializer;
+import io.github.fablabsmc.fablabs.api.fiber.v1.serialization.StreamingSerializer;
 import io.github.fablabsmc.fablabs.api.fiber.v1.serialization.TypeSerializer;
 import io.github.fablabsmc.fablabs.api.fiber.v1.serialization.ValueSerializer;
 import io.github.fablabsmc.fablabs.impl.fiber.constraint.BooleanConstraintChecker;
@@ -30,6 +34,16 @@ public final class BooleanSerializableType extends PlainSerializableType<Boolean
 		return serializer.deserializeBoolean(elem, this);
 	}
 
+	@Override
+	public void writeValue(Boolean value, StreamingSerializer serializer) throws IOException {
+		serializer.writeBoolean(value);
+	}
+
+	@Override
+	public Boolean readValue(StreamingDeserializer deserializer) throws ValueDeserializationException, IOException {
+		return deserializer.nextBoolean();
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		return o instanceof BooleanSerializableType;
@@ -1,12 +1,16 @@
 package io.github.fablabsmc.fablabs.api.fiber.v1.schema.type;
 
+import java.io.IOException;
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.util.Objects;
 import java.util.StringJoiner;
 
 import javax.annotation.Nullable;
 
 import io.github.fablabsmc.fablabs.api.fiber.v1.exception.ValueDeserializationException;
+import io.github.fablabsmc.fablabs.api.fiber.v1.serialization.StreamingDeserializer;
+import io.github.fablabsmc.fablabs.api.fiber.v1.serialization.StreamingSerializer;
 import io.github.fablabsmc.fablabs.api.fiber.v1.serialization.TypeSerializer;
 import io.github.fablabsmc.fablabs.api.fiber.v1.serialization.ValueSerializer;
 import io.github.fablabsmc.fablabs.impl.fiber.constraint.DecimalConstraintChecker;
@@ -16,6 +20,10 @@ import io.github.fablabsmc.fablabs.impl.fiber.constraint.DecimalConstraintChecke
  * and fractional ranges using Java's {@link BigDecimal} type.
  */
 public final class DecimalSerializableType extends PlainSerializableType<BigDecimal> {
+	private static final BigDecimal LONG_MIN = BigDecimal.valueOf(Long.MIN_VALUE);
+	private static final BigDecimal LONG_MAX = BigDecimal.valueOf(Long.MAX_VALUE);
+	private static final BigDecimal INT_MAX = BigDecimal.valueOf(Integer.MAX_VALUE);
+
 	/**
 	 * Specifies a numerical lower bound.
 	 *
@@ -32,6 +40,18 @@ public final class DecimalSerializableType extends PlainSerializableType<BigDeci
 	private final BigDecimal maximum;
 	@Nullable
 	private final BigDecimal increment;
+	/**
+	 * Whether the bounds and increment can be checked exactly using {@code long} arithmetic.
+	 */
+	private final boolean longCheckable;
+	private final long longMinimum;
+	private final long longMaximum;
+	private final long longIncrement;
+	/**
+	 * Conservative {@code double} bounds, strictly within the actual bounds.
+	 */
+	private final double doubleMinimum;
+	private final double doubleMaximum;
 
 	public DecimalSerializableType(@Nullable BigDecimal min, @Nullable BigDecimal max, @Nullable BigDecimal increment) {
 		super(BigDecimal.class, DecimalConstraintChecker.instance());
@@ -57,6 +77,20 @@ public final class DecimalSerializableType extends PlainSerializableType<BigDeci
 		this.minimum = min;
 		this.maximum = max;
 		this.increment = increment;
+		BigDecimal longMin = min == null ? LONG_MIN : min.setScale(0, RoundingMode.CEILING);
+		BigDecimal longMax = max == null ? LONG_MAX : max.setScale(0, RoundingMode.FLOOR);
+		this.longCheckable = longMin.compareTo(LONG_MIN) >= 0 && longMax.compareTo(LONG_MAX) <= 0
+				&& (increment == null || isSmallIntegral(increment));
+		this.longMinimum = this.longCheckable ? longMin.longValueExact() : 0;
+		this.longMaximum = this.longCheckable ? longMax.longValueExact() : 0;
+		this.longIncrement = this.longCheckable && increment != null ? increment.longValueExact() : 0;
+		// step two ulps inwards to stay clear of rounding in either direction
+		this.doubleMinimum = min == null ? Double.NEGATIVE_INFINITY : Math.nextUp(Math.nextUp(min.doubleValue()));
+		this.doubleMaximum = max == null ? Double.POSITIVE_INFINITY : Math.nextDown(Math.nextDown(max.doubleValue()));
+	}
+
+	private static boolean isSmallIntegral(BigDecimal value) {
+		return value.signum() > 0 && value.compareTo(INT_MAX) <= 0 && value.stripTrailingZeros().scale() <= 0;
 	}
 
 	@Nullable
@@ -74,6 +108,41 @@ public final class DecimalSerializableType extends PlainSerializableType<BigDeci
 		return this.increment;
 	}
 
+	/**
+	 * Checks whether the given integral value satisfies this type's constraints,
+	 * without creating a {@link BigDecimal} whenever possible.
+	 *
+	 * <p>The result is the same as calling {@link #accepts(Object)} with {@code BigDecimal.valueOf(value)}.
+	 *
+	 * @param value the value to check
+	 * @return {@code true} if the value satisfies every constraint
+	 */
+	public boolean acceptsLong(long value) {
+		if (!this.longCheckable) {
+			return this.accepts(BigDecimal.valueOf(value));
+		}
+
+		return value >= this.longMinimum && value <= this.longMaximum
+				&& (this.longIncrement == 0 || value % this.longIncrement == 0);
+	}
+
+	/**
+	 * Checks whether the given real value satisfies this type's constraints,
+	 * without creating a {@link BigDecimal} whenever possible.
+	 *
+	 * <p>The result is the same as calling {@link #accepts(Object)} with {@code BigDecimal.valueOf(value)}.
+	 *
+	 * @param value the finite value to check
+	 * @return {@code true} if the value satisfies every constraint
+	 */
+	public boolean acceptsDouble(double value) {
+		if (this.increment == null && value >= this.doubleMinimum && value <= this.doubleMaximum) {
+			return true;
+		}
+
+		return this.accepts(BigDecimal.valueOf(value));
+	}
+
 	@Override
 	public <S> void serialize(TypeSerializer<S> serializer, S target) {
 		serializer.serialize(this, target);
@@ -89,6 +158,16 @@ public final class DecimalSerializableType extends PlainSerializableType<BigDeci
 		return serializer.deserializeNumber(elem, this);
 	}
 
+	@Override
+	public void writeValue(BigDecimal value, StreamingSerializer serializer) throws IOException {
+		serializer.writeNumber(value);
+	}
+
+	@Override
+	public BigDecimal readValue(StreamingDeserializer deserializer) throws ValueDeserializationException, IOException {
+		return deserializer.nextNumber();
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if (this == o) return true;
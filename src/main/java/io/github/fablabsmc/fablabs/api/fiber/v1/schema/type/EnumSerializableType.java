@@ -1,13 +1,18 @@
 package io.github.fablabsmc.fablabs.api.fiber.v1.schema.type;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.StringJoiner;
 
 import io.github.fablabsmc.fablabs.api.fiber.v1.exception.ValueDeserializationException;
+import io.github.fablabsmc.fablabs.api.fiber.v1.serialization.StreamingDeserializer;
+import io.github.fablabsmc.fablabs.api.fiber.v1.serialization.StreamingSerializer;
 import io.github.fablabsmc.fablabs.api.fiber.v1.serialization.TypeSerializer;
 import io.github.fablabsmc.fablabs.api.fiber.v1.serialization.ValueSerializer;
 import io.github.fablabsmc.fablabs.impl.fiber.constraint.EnumConstraintChecker;
@@ -17,6 +22,10 @@ import io.github.fablabsmc.fablabs.impl.fiber.constraint.EnumConstraintChecker;
  */
 public final class EnumSerializableType extends PlainSerializableType<String> {
 	private final Set<String> validValues;
+	/**
+	 * The valid values in declaration order, which is significant for equality.
+	 */
+	private final List<String> orderedValues;
 
 	public EnumSerializableType(String... validValues) {
 		this(new LinkedHashSet<>(Arrays.asList(validValues)));
@@ -26,6 +35,7 @@ public final class EnumSerializableType extends PlainSerializableType<String> {
 		super(String.class, EnumConstraintChecker.instance());
 		validValues.forEach(Objects::requireNonNull);
 		this.validValues = Collections.unmodifiableSet(new LinkedHashSet<>(validValues));
+		this.orderedValues = new ArrayList<>(this.validValues);
 	}
 
 	public Set<String> getValidValues() {
@@ -47,17 +57,27 @@ public final class EnumSerializableType extends PlainSerializableType<String> {
 		return serializer.deserializeEnum(elem, this);
 	}
 
+	@Override
+	public void writeValue(String value, StreamingSerializer serializer) throws IOException {
+		serializer.writeString(value);
+	}
+
+	@Override
+	public String readValue(StreamingDeserializer deserializer) throws ValueDeserializationException, IOException {
+		return deserializer.nextString();
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if (this == o) return true;
 		if (o == null || this.getClass() != o.getClass()) return false;
 		EnumSerializableType that = (EnumSerializableType) o;
-		return Objects.equals(this.validValues, that.validValues);
+		return this.orderedValues.equals(that.orderedValues);
 	}
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(this.validValues);
+		return this.orderedValues.hashCode();
 	}
 
 	@Override
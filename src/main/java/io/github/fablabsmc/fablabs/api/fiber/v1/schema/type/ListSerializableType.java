@@ -1,6 +1,9 @@
 package io.github.fablabsmc.fablabs.api.fiber.v1.schema.type;
 
+import java.io.IOException;
 import java.lang.reflect.ParameterizedType;
+import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.StringJoiner;
@@ -8,6 +11,8 @@ import java.util.StringJoiner;
 import javax.annotation.Nonnull;
 
 import io.github.fablabsmc.fablabs.api.fiber.v1.exception.ValueDeserializationException;
+import io.github.fablabsmc.fablabs.api.fiber.v1.serialization.StreamingDeserializer;
+import io.github.fablabsmc.fablabs.api.fiber.v1.serialization.StreamingSerializer;
 import io.github.fablabsmc.fablabs.api.fiber.v1.serialization.TypeSerializer;
 import io.github.fablabsmc.fablabs.api.fiber.v1.serialization.ValueSerializer;
 import io.github.fablabsmc.fablabs.impl.fiber.constraint.ListConstraintChecker;
@@ -22,6 +27,7 @@ public final class ListSerializableType<E> extends ParameterizedSerializableType
 	private final boolean unique;
 	private final int minSize;
 	private final int maxSize;
+	private final int hash;
 
 	public ListSerializableType(SerializableType<E> elementType) {
 		this(elementType, 0, Integer.MAX_VALUE, false);
@@ -33,6 +39,7 @@ public final class ListSerializableType<E> extends ParameterizedSerializableType
 		this.minSize = minSize;
 		this.maxSize = maxSize;
 		this.unique = unique;
+		this.hash = Objects.hash(elementType, unique, minSize, maxSize);
 	}
 
 	public SerializableType<E> getElementType() {
@@ -59,19 +66,8 @@ public final class ListSerializableType<E> extends ParameterizedSerializableType
 	@SuppressWarnings("unchecked")
 	@Override
 	public List<E> cast(@Nonnull Object value) {
-		List<?> ls = (List<?>) value;
-
-		for (Object obj : ls) {
-			try {
-				this.elementType.cast(obj);
-			} catch (ClassCastException e) {
-				ClassCastException ex = new ClassCastException("element " + obj);
-				ex.initCause(e);
-				throw ex;
-			}
-		}
-
-		return (List<E>) ls;
+		// elements are cast individually when checked
+		return (List<E>) (List<?>) value;
 	}
 
 	@Override
@@ -81,20 +77,68 @@ public final class ListSerializableType<E> extends ParameterizedSerializableType
 
 	@Override
 	public <S> S serializeValue(List<E> value, ValueSerializer<S, ?> serializer) {
+		if (value instanceof NumericArrayList && this.elementType instanceof DecimalSerializableType) {
+			return serializer.serializeNumericArray((NumericArrayList) value, this.asNumeric());
+		}
+
 		return serializer.serializeList(value, this);
 	}
 
 	@Override
 	public <S> List<E> deserializeValue(S elem, ValueSerializer<S, ?> serializer) throws ValueDeserializationException {
+		if (this.elementType instanceof DecimalSerializableType) {
+			@SuppressWarnings("unchecked") List<E> ret = (List<E>) serializer.deserializeNumericArray(elem, this.asNumeric());
+			return ret;
+		}
+
 		return serializer.deserializeList(elem, this);
 	}
 
+	@Override
+	public void writeValue(List<E> value, StreamingSerializer serializer) throws IOException {
+		serializer.beginArray();
+
+		if (value instanceof NumericArrayList && ((NumericArrayList) value).isIntegral()) {
+			NumericArrayList numbers = (NumericArrayList) value;
+
+			for (int i = 0; i < numbers.size(); i++) {
+				serializer.writeNumber(numbers.getLong(i));
+			}
+		} else {
+			for (E e : value) {
+				this.elementType.writeValue(e, serializer);
+			}
+		}
+
+		serializer.endArray();
+	}
+
+	@Override
+	public List<E> readValue(StreamingDeserializer deserializer) throws ValueDeserializationException, IOException {
+		List<E> ls = new ArrayList<>();
+		deserializer.beginArray();
+
+		while (deserializer.hasNext()) {
+			ls.add(this.elementType.readValue(deserializer));
+		}
+
+		deserializer.endArray();
+		return ls;
+	}
+
+	@SuppressWarnings("unchecked")
+	private ListSerializableType<BigDecimal> asNumeric() {
+		// only called when the element type is a DecimalSerializableType
+		return (ListSerializableType<BigDecimal>) this;
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if (this == o) return true;
 		if (o == null || this.getClass() != o.getClass()) return false;
 		ListSerializableType<?> that = (ListSerializableType<?>) o;
-		return this.unique == that.unique
+		return this.hash == that.hash
+				&& this.unique == that.unique
 				&& this.minSize == that.minSize
 				&& this.maxSize == that.maxSize
 				&& Objects.equals(this.elementType, that.elementType);
@@ -102,7 +146,7 @@ public final class ListSerializableType<E> extends ParameterizedSerializableType
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(this.elementType, this.unique, this.minSize, this.maxSize);
+		return this.hash;
 	}
 
 	@Override
@@ -1,6 +1,8 @@
 package io.github.fablabsmc.fablabs.api.fiber.v1.schema.type;
 
+import java.io.IOException;
 import java.lang.reflect.ParameterizedType;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.StringJoiner;
@@ -8,6 +10,8 @@ import java.util.StringJoiner;
 import javax.annotation.Nonnull;
 
 import io.github.fablabsmc.fablabs.api.fiber.v1.exception.ValueDeserializationException;
+import io.github.fablabsmc.fablabs.api.fiber.v1.serialization.StreamingDeserializer;
+import io.github.fablabsmc.fablabs.api.fiber.v1.serialization.StreamingSerializer;
 import io.github.fablabsmc.fablabs.api.fiber.v1.serialization.TypeSerializer;
 import io.github.fablabsmc.fablabs.api.fiber.v1.serialization.ValueSerializer;
 import io.github.fablabsmc.fablabs.impl.fiber.constraint.MapConstraintChecker;
@@ -22,6 +26,7 @@ public final class MapSerializableType<V> extends ParameterizedSerializableType<
 	private final SerializableType<V> valueType;
 	private final int minSize;
 	private final int maxSize;
+	private final int hash;
 
 	public MapSerializableType(SerializableType<V> valueType) {
 		this(StringSerializableType.DEFAULT_STRING, valueType);
@@ -37,6 +42,7 @@ public final class MapSerializableType<V> extends ParameterizedSerializableType<
 		this.valueType = valueType;
 		this.minSize = minSize;
 		this.maxSize = maxSize;
+		this.hash = Objects.hash(keyType, valueType, minSize, maxSize);
 	}
 
 	public StringSerializableType getKeyType() {
@@ -63,23 +69,8 @@ public final class MapSerializableType<V> extends ParameterizedSerializableType<
 	@SuppressWarnings("unchecked")
 	@Override
 	public Map<String, V> cast(@Nonnull Object value) {
-		Map<?, ?> map = (Map<?, ?>) value;
-
-		for (Map.Entry<?, ?> entry : map.entrySet()) {
-			if (!(entry.getKey() instanceof String)) {
-				throw new ClassCastException("non-String map key " + entry.getKey());
-			}
-
-			try {
-				this.valueType.cast(entry.getValue());
-			} catch (ClassCastException e) {
-				ClassCastException ex = new ClassCastException("map value " + entry.getValue());
-				ex.initCause(e);
-				throw ex;
-			}
-		}
-
-		return (Map<String, V>) map;
+		// keys and values are cast individually when checked
+		return (Map<String, V>) (Map<?, ?>) value;
 	}
 
 	@Override
@@ -97,19 +88,47 @@ public final class MapSerializableType<V> extends ParameterizedSerializableType<
 		return serializer.deserializeMap(elem, this);
 	}
 
+	@Override
+	public void writeValue(Map<String, V> value, StreamingSerializer serializer) throws IOException {
+		serializer.beginObject();
+
+		for (Map.Entry<String, V> entry : value.entrySet()) {
+			serializer.field(entry.getKey(), null);
+			this.valueType.writeValue(entry.getValue(), serializer);
+		}
+
+		serializer.endObject();
+	}
+
+	@Override
+	public Map<String, V> readValue(StreamingDeserializer deserializer) throws ValueDeserializationException, IOException {
+		Map<String, V> map = new LinkedHashMap<>();
+		deserializer.beginObject();
+
+		while (deserializer.hasNext()) {
+			String key = deserializer.nextName();
+			map.put(key, this.valueType.readValue(deserializer));
+		}
+
+		deserializer.endObject();
+		return map;
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if (this == o) return true;
 		if (o == null || this.getClass() != o.getClass()) return false;
 		MapSerializableType<?> that = (MapSerializableType<?>) o;
-		return this.minSize == that.minSize
+		return this.hash == that.hash
+				&& this.minSize == that.minSize
 				&& this.maxSize == that.maxSize
+				&& Objects.equals(this.keyType, that.keyType)
 				&& Objects.equals(this.valueType, that.valueType);
 	}
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(this.valueType, this.minSize, this.maxSize);
+		return this.hash;
 	}
 
 	@Override
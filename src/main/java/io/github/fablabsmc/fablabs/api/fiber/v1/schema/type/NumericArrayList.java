@@ -0,0 +1,98 @@
+package io.github.fablabsmc.fablabs.api.fiber.v1.schema.type;
+
+import java.math.BigDecimal;
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+import javax.annotation.Nullable;
+
+/**
+ * An unmodifiable list of numbers backed by a primitive array.
+ *
+ * <p>This list can be used as the value of a {@link ListSerializableType} with
+ * {@link DecimalSerializableType} elements. Constraint checks and {@link io.github.fablabsmc.fablabs.api.fiber.v1.serialization.ValueSerializer}s
+ * aware of this class read the primitive values directly, without creating a {@link BigDecimal} for each element.
+ * Elements retrieved through {@link #get(int)} are equal to {@link BigDecimal#valueOf(long)}
+ * or {@link BigDecimal#valueOf(double)} of the backing value.
+ *
+ * @see io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.derived.ConfigTypes#makeIntArray
+ * @see io.github.fablabsmc.fablabs.api.fiber.v1.serialization.ValueSerializer#serializeNumericArray(NumericArrayList, ListSerializableType)
+ */
+public final class NumericArrayList extends AbstractList<BigDecimal> implements RandomAccess {
+	@Nullable
+	private final long[] longs;
+	@Nullable
+	private final double[] doubles;
+
+	private NumericArrayList(@Nullable long[] longs, @Nullable double[] doubles) {
+		this.longs = longs;
+		this.doubles = doubles;
+	}
+
+	/**
+	 * Creates a list of integral numbers backed by the given array.
+	 *
+	 * <p>The array is not copied, and must not be modified afterwards.
+	 *
+	 * @param values the backing array
+	 * @return a list backed by {@code values}
+	 */
+	public static NumericArrayList wrap(long[] values) {
+		return new NumericArrayList(values, null);
+	}
+
+	/**
+	 * Creates a list of real numbers backed by the given array.
+	 *
+	 * <p>The array is not copied, and must not be modified afterwards.
+	 *
+	 * @param values the backing array, which must only contain finite values
+	 * @return a list backed by {@code values}
+	 */
+	public static NumericArrayList wrap(double[] values) {
+		for (double value : values) {
+			if (Double.isNaN(value) || Double.isInfinite(value)) {
+				throw new NumberFormatException("Non-finite value " + value);
+			}
+		}
+
+		return new NumericArrayList(null, values);
+	}
+
+	/**
+	 * Returns {@code true} if this list is backed by a {@code long} array.
+	 */
+	public boolean isIntegral() {
+		return this.longs != null;
+	}
+
+	/**
+	 * Returns the element at the given position, narrowed to a {@code long}.
+	 *
+	 * @param index the index of the element
+	 * @return the element at {@code index}
+	 */
+	public long getLong(int index) {
+		return this.longs != null ? this.longs[index] : (long) this.doubles[index];
+	}
+
+	/**
+	 * Returns the element at the given position, converted to a {@code double}.
+	 *
+	 * @param index the index of the element
+	 * @return the element at {@code index}
+	 */
+	public double getDouble(int index) {
+		return this.longs != null ? this.longs[index] : this.doubles[index];
+	}
+
+	@Override
+	public BigDecimal get(int index) {
+		return this.longs != null ? BigDecimal.valueOf(this.longs[index]) : BigDecimal.valueOf(this.doubles[index]);
+	}
+
+	@Override
+	public int size() {
+		return this.longs != null ? this.longs.length : this.doubles.length;
+	}
+}
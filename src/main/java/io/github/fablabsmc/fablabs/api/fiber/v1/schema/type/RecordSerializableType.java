@@ -1,6 +1,12 @@
 package io.github.fablabsmc.fablabs.api.fiber.v1.schema.type;
 
+import java.io.IOException;
 import java.lang.reflect.ParameterizedType;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.StringJoiner;
@@ -9,6 +15,8 @@ import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 
 import io.github.fablabsmc.fablabs.api.fiber.v1.exception.ValueDeserializationException;
+import io.github.fablabsmc.fablabs.api.fiber.v1.serialization.StreamingDeserializer;
+import io.github.fablabsmc.fablabs.api.fiber.v1.serialization.StreamingSerializer;
 import io.github.fablabsmc.fablabs.api.fiber.v1.serialization.TypeSerializer;
 import io.github.fablabsmc.fablabs.api.fiber.v1.serialization.ValueSerializer;
 import io.github.fablabsmc.fablabs.impl.fiber.constraint.RecordConstraintChecker;
@@ -18,11 +26,14 @@ import io.github.fablabsmc.fablabs.impl.fiber.constraint.RecordConstraintChecker
  */
 public final class RecordSerializableType extends ParameterizedSerializableType<Map<String, Object>> {
 	private final Map<String, SerializableType<?>> fields;
+	private final int hash;
 
 	public RecordSerializableType(Map<String, SerializableType<?>> fields) {
 		super(Map.class, RecordConstraintChecker.instance());
 		fields.keySet().forEach(Objects::requireNonNull);
-		this.fields = fields;
+		this.fields = Collections.unmodifiableMap(new LinkedHashMap<>(fields));
+		// field order is significant
+		this.hash = new ArrayList<>(this.fields.entrySet()).hashCode();
 	}
 
 	public Map<String, SerializableType<?>> getFields() {
@@ -44,16 +55,7 @@ public final class RecordSerializableType extends ParameterizedSerializableType<
 			throw new ClassCastException("value Map " + map.keySet() + " is not structurally equivalent to fields " + this.fields.keySet());
 		}
 
-		for (Map.Entry<String, SerializableType<?>> entry : this.fields.entrySet()) {
-			try {
-				entry.getValue().cast(map.get(entry.getKey()));
-			} catch (ClassCastException e) {
-				ClassCastException ex = new ClassCastException("field " + entry.getKey());
-				ex.initCause(e);
-				throw ex;
-			}
-		}
-
+		// fields are cast individually when checked
 		return (Map<String, Object>) map;
 	}
 
@@ -72,6 +74,55 @@ public final class RecordSerializableType extends ParameterizedSerializableType<
 		return serializer.deserializeRecord(elem, this);
 	}
 
+	@Override
+	public void writeValue(Map<String, Object> value, StreamingSerializer serializer) throws IOException {
+		serializer.beginObject();
+
+		for (Map.Entry<String, SerializableType<?>> entry : this.fields.entrySet()) {
+			serializer.field(entry.getKey(), null);
+			writeField(value.get(entry.getKey()), entry.getValue(), serializer);
+		}
+
+		serializer.endObject();
+	}
+
+	@Override
+	public Map<String, Object> readValue(StreamingDeserializer deserializer) throws ValueDeserializationException, IOException {
+		Map<String, Object> read = new HashMap<>(this.fields.size());
+		deserializer.beginObject();
+
+		while (deserializer.hasNext()) {
+			String key = deserializer.nextName();
+			SerializableType<?> fieldType = this.fields.get(key);
+
+			if (fieldType != null) {
+				read.put(key, fieldType.readValue(deserializer));
+			} else {
+				deserializer.skipValue();
+			}
+		}
+
+		deserializer.endObject();
+		// fields may come in any order, but records are ordered like their type
+		Map<String, Object> map = new LinkedHashMap<>(this.fields.size());
+
+		for (Map.Entry<String, SerializableType<?>> entry : this.fields.entrySet()) {
+			Object value = read.get(entry.getKey());
+
+			if (value == null) {
+				throw new ValueDeserializationException(null, entry.getValue().getErasedPlatformType(), "Record field is absent: " + entry.getKey());
+			}
+
+			map.put(entry.getKey(), value);
+		}
+
+		return map;
+	}
+
+	private static <T> void writeField(Object value, SerializableType<T> type, StreamingSerializer serializer) throws IOException {
+		type.writeValue(type.cast(value), serializer);
+	}
+
 	@Override
 	public String toString() {
 		return new StringJoiner(", ", RecordSerializableType.class.getSimpleName() + "[", "]")
@@ -86,11 +137,22 @@ public final class RecordSerializableType extends ParameterizedSerializableType<
 		if (this == o) return true;
 		if (o == null || this.getClass() != o.getClass()) return false;
 		RecordSerializableType that = (RecordSerializableType) o;
-		return Objects.equals(this.fields, that.fields);
+		return this.hash == that.hash && sameFields(this.fields, that.fields);
+	}
+
+	private static boolean sameFields(Map<String, SerializableType<?>> a, Map<String, SerializableType<?>> b) {
+		if (a.size() != b.size()) return false;
+		Iterator<Map.Entry<String, SerializableType<?>>> it = b.entrySet().iterator();
+
+		for (Map.Entry<String, SerializableType<?>> entry : a.entrySet()) {
+			if (!entry.equals(it.next())) return false;
+		}
+
+		return true;
 	}
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(this.fields);
+		return this.hash;
 	}
 }
@@ -1,13 +1,20 @@
 package io.github.fablabsmc.fablabs.api.fiber.v1.schema.type;
 
+import java.io.IOException;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Type;
 import java.math.BigDecimal;
+import java.util.Map;
 import java.util.Objects;
+import java.util.WeakHashMap;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 import io.github.fablabsmc.fablabs.api.fiber.v1.exception.ValueDeserializationException;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.derived.ConfigType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.serialization.StreamingDeserializer;
+import io.github.fablabsmc.fablabs.api.fiber.v1.serialization.StreamingSerializer;
 import io.github.fablabsmc.fablabs.api.fiber.v1.serialization.TypeSerializer;
 import io.github.fablabsmc.fablabs.api.fiber.v1.serialization.ValueSerializer;
 import io.github.fablabsmc.fablabs.impl.fiber.constraint.ConstraintChecker;
@@ -34,6 +41,20 @@ import io.github.fablabsmc.fablabs.impl.fiber.constraint.ConstraintChecker;
  * @see StringSerializableType
  */
 public abstract class SerializableType<T> {
+	/**
+	 * Canonical types, weakly referenced both as keys and values so that unused types can be collected.
+	 */
+	private static final Map<SerializableType<?>, WeakReference<SerializableType<?>>> POOL = new WeakHashMap<>();
+	private static final int ASSIGNABILITY_CACHE_SIZE = 256;
+	/**
+	 * A direct-mapped cache of {@link #isAssignableFrom(SerializableType)} results, keyed by identity.
+	 *
+	 * <p>Entries are immutable, so racy reads and writes are harmless: a thread either sees
+	 * a complete entry or misses the cache. Entries only weakly reference their types,
+	 * so that the cache never keeps otherwise unused types alive.
+	 */
+	private static final Assignability[] ASSIGNABILITY_CACHE = new Assignability[ASSIGNABILITY_CACHE_SIZE];
+
 	private final Class<? super T> platformType;
 	private final ConstraintChecker<T, SerializableType<T>> checker;
 
@@ -43,6 +64,34 @@ public abstract class SerializableType<T> {
 		this.checker = (ConstraintChecker<T, SerializableType<T>>) checker;
 	}
 
+	/**
+	 * Returns the canonical instance of a type.
+	 *
+	 * <p>Structurally equal types are interned to the same instance, so that comparing
+	 * two interned types for equality only requires an identity check.
+	 * Since equal types also agree on the order of their enum values and record fields,
+	 * the canonical instance can always be used in place of {@code type}.
+	 * The pool only references canonical types weakly, so they are discarded once no longer in use.
+	 *
+	 * @param type the type to intern
+	 * @param <S>  the class of the type
+	 * @return the canonical type {@linkplain #equals(Object) equal} to {@code type}
+	 */
+	public static <S extends SerializableType<?>> S intern(S type) {
+		synchronized (POOL) {
+			WeakReference<SerializableType<?>> ref = POOL.get(type);
+			// equal types always have the same class
+			@SuppressWarnings("unchecked") S canonical = ref == null ? null : (S) ref.get();
+
+			if (canonical != null) {
+				return canonical;
+			}
+
+			POOL.put(type, new WeakReference<>(type));
+			return type;
+		}
+	}
+
 	/**
 	 * The (erased) Java platform type used to represent values of this type.
 	 */
@@ -60,7 +109,8 @@ public abstract class SerializableType<T> {
 	 * Casts an object to the type represented by this type.
 	 *
 	 * <p>This method does not check the value against this type's constraints.
-	 * For parameterized types, this method may inspect the object and thus not run in constant time.
+	 * For parameterized types, this method only casts the container itself: its elements are cast
+	 * when the value is {@linkplain #check(Object) checked}, so that each element is only inspected once.
 	 *
 	 * @param value The value.
 	 * @return The value, casted to the platform type.
@@ -77,35 +127,84 @@ public abstract class SerializableType<T> {
 	 * can also be assigned to this {@code SerializableType}.
 	 * <pre>forall x, type.accepts(x) =&gt; this.accepts(x)</pre>
 	 *
+	 * <p>Recent results are cached by type identity, which makes repeated checks
+	 * between {@linkplain #intern(SerializableType) interned} types nearly free.
+	 *
 	 * @param type the type to be checked
 	 * @return {@code true} if properties of {@code this} type are assignable from values of {@code type}.
 	 */
 	public final boolean isAssignableFrom(SerializableType<?> type) {
+		if (this == type) {
+			return true;
+		}
+
 		if (this.getClass() != type.getClass()) {
 			return false;
 		}
 
+		int index = assignabilityIndex(this, type);
+		Assignability cached = ASSIGNABILITY_CACHE[index];
+
+		if (cached != null && cached.matches(this, type)) {
+			return cached.assignable;
+		}
+
 		@SuppressWarnings("unchecked") SerializableType<T> that = (SerializableType<T>) type;
-		return this.checker.comprehends(this, that);
+		boolean assignable = this.checker.comprehends(this, that);
+		ASSIGNABILITY_CACHE[index] = new Assignability(this, type, assignable);
+		return assignable;
+	}
+
+	static int assignabilityIndex(SerializableType<?> to, SerializableType<?> from) {
+		return (31 * System.identityHashCode(to) + System.identityHashCode(from)) & (ASSIGNABILITY_CACHE_SIZE - 1);
+	}
+
+	/**
+	 * Returns the cached result of {@code to.isAssignableFrom(from)}, for tests.
+	 *
+	 * @return the cached result, or {@code null} if it is not cached
+	 */
+	@Nullable
+	static Boolean cachedAssignability(SerializableType<?> to, SerializableType<?> from) {
+		Assignability cached = ASSIGNABILITY_CACHE[assignabilityIndex(to, from)];
+		return cached != null && cached.matches(to, from) ? cached.assignable : null;
 	}
 
 	/**
 	 * Returns whether this type's constraints accept the given value.
 	 *
-	 * @see #test(Object)
+	 * @see #check(Object)
 	 */
 	public final boolean accepts(T serializedValue) {
-		return this.test(serializedValue).hasPassed();
+		return this.check(serializedValue).hasPassed();
 	}
 
 	/**
 	 * Tests the given value against this type's constraints.
 	 *
+	 * <p>A successful result describes the tested value.
+	 *
 	 * @see #accepts(Object)
+	 * @see #check(Object)
 	 * @see TypeCheckResult
 	 */
 	public final TypeCheckResult<T> test(T serializedValue) {
-		return this.checker.test(this, this.cast(Objects.requireNonNull(serializedValue)));
+		T value = this.cast(Objects.requireNonNull(serializedValue));
+		TypeCheckResult<T> result = this.checker.check(this, value);
+		return result.hasPassed() ? TypeCheckResult.successful(value) : result;
+	}
+
+	/**
+	 * Tests the given value against this type's constraints, without allocating if it passes.
+	 *
+	 * <p>If the value passes, this method returns the shared {@linkplain TypeCheckResult#passed() passed result},
+	 * which does not describe the tested value. Otherwise, it returns the same result as {@link #test(Object)}.
+	 *
+	 * @see #test(Object)
+	 * @see TypeCheckResult
+	 */
+	public final TypeCheckResult<T> check(T serializedValue) {
+		return this.checker.check(this, this.cast(Objects.requireNonNull(serializedValue)));
 	}
 
 	/**
@@ -141,16 +240,60 @@ public abstract class SerializableType<T> {
 	 */
 	public abstract <S> T deserializeValue(S elem, ValueSerializer<S, ?> serializer) throws ValueDeserializationException;
 
+	/**
+	 * Writes a config primitive to a streaming serializer. The value given <em>must</em>
+	 * be compatible with the platform type as given by {@link #cast(Object)} and additionally
+	 * satisfy this type's particular constraints.
+	 *
+	 * @param value      The value to write.
+	 * @param serializer The StreamingSerializer to write to.
+	 * @throws IOException If an IO error occurs while writing.
+	 */
+	public abstract void writeValue(T value, StreamingSerializer serializer) throws IOException;
+
+	/**
+	 * Reads a config primitive from a streaming deserializer.
+	 *
+	 * <p>As with {@link #deserializeValue(Object, ValueSerializer)}, the returned value
+	 * is not guaranteed to satisfy this type's constraints.
+	 *
+	 * @param deserializer The StreamingDeserializer to read from.
+	 * @return The deserialized value.
+	 * @throws ValueDeserializationException If a value cannot be deserialized.
+	 * @throws IOException                   If an IO error occurs while reading.
+	 */
+	public abstract T readValue(StreamingDeserializer deserializer) throws ValueDeserializationException, IOException;
+
 	@Override
 	public abstract String toString();
 
 	/**
 	 * Two serialized types are equal if and only if they are of the same kind
 	 * and both have the same constraints.
+	 *
+	 * <p>Where the order of constraints is observable, such as the valid values of an enum type
+	 * or the fields of a record type, equal types must also declare them in the same order.
 	 */
 	@Override
 	public abstract boolean equals(Object o);
 
 	@Override
 	public abstract int hashCode();
+
+	private static final class Assignability {
+		final WeakReference<SerializableType<?>> to;
+		final WeakReference<SerializableType<?>> from;
+		final boolean assignable;
+
+		Assignability(SerializableType<?> to, SerializableType<?> from, boolean assignable) {
+			this.to = new WeakReference<>(to);
+			this.from = new WeakReference<>(from);
+			this.assignable = assignable;
+		}
+
+		boolean matches(SerializableType<?> to, SerializableType<?> from) {
+			// collected types are never equal to live ones
+			return this.to.get() == to && this.from.get() == from;
+		}
+	}
 }
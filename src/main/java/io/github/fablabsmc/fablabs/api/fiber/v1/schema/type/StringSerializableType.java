@@ -1,5 +1,6 @@
 package io.github.fablabsmc.fablabs.api.fiber.v1.schema.type;
 
+import java.io.IOException;
 import java.util.Objects;
 import java.util.StringJoiner;
 import java.util.regex.Pattern;
@@ -7,6 +8,8 @@ import java.util.regex.Pattern;
 import javax.annotation.Nullable;
 
 import io.github.fablabsmc.fablabs.api.fiber.v1.exception.ValueDeserializationException;
+import io.github.fablabsmc.fablabs.api.fiber.v1.serialization.StreamingDeserializer;
+import io.github.fablabsmc.fablabs.api.fiber.v1.serialization.StreamingSerializer;
 import io.github.fablabsmc.fablabs.api.fiber.v1.serialization.TypeSerializer;
 import io.github.fablabsmc.fablabs.api.fiber.v1.serialization.ValueSerializer;
 import io.github.fablabsmc.fablabs.impl.fiber.constraint.StringConstraintChecker;
@@ -82,6 +85,16 @@ public final class StringSerializableType extends PlainSerializableType<String>
 		return serializer.deserializeString(elem, this);
 	}
 
+	@Override
+	public void writeValue(String value, StreamingSerializer serializer) throws IOException {
+		serializer.writeString(value);
+	}
+
+	@Override
+	public String readValue(StreamingDeserializer deserializer) throws ValueDeserializationException, IOException {
+		return deserializer.nextString();
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if (this == o) return true;
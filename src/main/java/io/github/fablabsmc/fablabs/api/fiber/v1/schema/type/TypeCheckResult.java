@@ -15,6 +15,10 @@ public final class TypeCheckResult<V> {
 	 * The singleton unrecoverable failed result.
 	 */
 	private static final TypeCheckResult<?> UNRECOVERABLE = new TypeCheckResult<>(false, null);
+	/**
+	 * The singleton passed result, which does not hold the tested value.
+	 */
+	private static final TypeCheckResult<?> PASSED = new TypeCheckResult<>(true, null);
 
 	/**
 	 * Creates a successful {@link TypeCheckResult} with the given value.
@@ -23,6 +27,19 @@ public final class TypeCheckResult<V> {
 		return new TypeCheckResult<>(true, initialValue);
 	}
 
+	/**
+	 * Returns the shared passed {@link TypeCheckResult}.
+	 *
+	 * <p>Unlike {@link #successful(Object)}, the returned result does not describe
+	 * the tested value, and its {@link #getCorrectedValueOrNull()} method returns {@code null}.
+	 *
+	 * @see SerializableType#check(Object)
+	 */
+	public static <V> TypeCheckResult<V> passed() {
+		@SuppressWarnings("unchecked") TypeCheckResult<V> t = (TypeCheckResult<V>) PASSED;
+		return t;
+	}
+
 	/**
 	 * Creates a failed {@link TypeCheckResult} with the given value.
 	 */
@@ -72,4 +89,18 @@ public final class TypeCheckResult<V> {
 	public Optional<V> getCorrectedValue() {
 		return Optional.ofNullable(this.correctedValue);
 	}
+
+	/**
+	 * Returns a possible corrected value based on the tested value, without allocating.
+	 *
+	 * <p>If the test passes, this method returns the tested value, unless
+	 * this result is the shared {@linkplain #passed() passed result}.
+	 *
+	 * @return a possible corrected value, or {@code null} if the test was unrecoverable
+	 * or if this result is the shared passed result.
+	 */
+	@Nullable
+	public V getCorrectedValueOrNull() {
+		return this.correctedValue;
+	}
 }
@@ -28,6 +28,8 @@ import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.SerializableType;
  * @see StringConfigType
  */
 public abstract class ConfigType<R, S, T extends SerializableType<S>> {
+	private static final Function<?, ?> IDENTITY = Function.identity();
+
 	private final T serializedType;
 	private final Class<R> runtimeType;
 	protected final Function<S, R> deserializer;
@@ -35,7 +37,7 @@ public abstract class ConfigType<R, S, T extends SerializableType<S>> {
 
 	ConfigType(T serializedType, Class<R> runtimeType, Function<S, R> deserializer, Function<R, S> serializer) {
 		this.runtimeType = runtimeType;
-		this.serializedType = serializedType;
+		this.serializedType = SerializableType.intern(serializedType);
 		this.deserializer = deserializer;
 		this.serializer = serializer;
 	}
@@ -113,6 +115,21 @@ public abstract class ConfigType<R, S, T extends SerializableType<S>> {
 			throw new FiberConversionException("Invalid serialized value " + serializedValue);
 		}
 
+		return this.toRuntimeTypeUnchecked(serializedValue);
+	}
+
+	/**
+	 * Converts a serialized value to this {@code ConfigType}'s runtime type, without checking it.
+	 *
+	 * <p>This method should only be called with values that are already known to satisfy
+	 * this converter's constraints, such as values held by a {@link io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigLeaf}
+	 * of a type that this converter's serialized type {@linkplain SerializableType#isAssignableFrom(SerializableType) is assignable from}.
+	 *
+	 * @param serializedValue the value to convert to runtime form
+	 * @return a runtime equivalent of the serialized value
+	 * @see #toRuntimeType(Object)
+	 */
+	public R toRuntimeTypeUnchecked(S serializedValue) {
 		return Objects.requireNonNull(this.deserializer.apply(serializedValue));
 	}
 
@@ -148,6 +165,21 @@ public abstract class ConfigType<R, S, T extends SerializableType<S>> {
 	 */
 	public abstract ConfigType<R, S, T> constrain(ConstraintAnnotationProcessor<Annotation> processor, Annotation annotation, AnnotatedElement annotated);
 
+	/**
+	 * Returns the identity conversion recognized by {@link #hasIdentityConversion()}.
+	 */
+	static <T> Function<T, T> identity() {
+		@SuppressWarnings("unchecked") Function<T, T> f = (Function<T, T>) IDENTITY;
+		return f;
+	}
+
+	/**
+	 * Returns {@code true} if this type's runtime and serialized forms are the same objects.
+	 */
+	boolean hasIdentityConversion() {
+		return this.deserializer == IDENTITY && this.serializer == IDENTITY;
+	}
+
 	void checkTypeNarrowing(T newSpec) {
 		if (!this.serializedType.isAssignableFrom(newSpec)) {
 			throw new IllegalStateException("Cannot widen the constraints on a TypeConverter");
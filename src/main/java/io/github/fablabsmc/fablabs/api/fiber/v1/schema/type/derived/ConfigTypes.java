@@ -21,6 +21,7 @@ import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.DecimalSerializableT
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.EnumSerializableType;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.ListSerializableType;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.MapSerializableType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.NumericArrayList;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.StringSerializableType;
 import io.github.fablabsmc.fablabs.impl.fiber.annotation.magic.TypeMagic;
 
@@ -29,26 +30,26 @@ public final class ConfigTypes {
 	 * A {@link BooleanConfigType} representing a bare boolean.
 	 */
 	public static final BooleanConfigType<Boolean> BOOLEAN =
-			new BooleanConfigType<>(Boolean.class, Function.identity(), Function.identity());
+			new BooleanConfigType<>(Boolean.class, ConfigType.identity(), ConfigType.identity());
 
 	/* Number-derived types */
 
 	public static final NumberConfigType<BigDecimal> UNBOUNDED_DECIMAL =
-			makeNumber(BigDecimal.class, Function.identity(), Function.identity(), null, null, null);
+			makeNumber(BigDecimal.class, ConfigType.identity(), ConfigType.identity(), null, null, null);
 	public static final NumberConfigType<BigInteger> UNBOUNDED_INTEGER =
 			makeNumber(BigInteger.class, BigDecimal::new, BigDecimal::toBigInteger, null, null, null);
 	public static final NumberConfigType<Byte> BYTE =
-			makeNumber(Byte.class, BigDecimal::valueOf, BigDecimal::byteValue, Byte.MIN_VALUE, Byte.MAX_VALUE, (byte) 1);
+			primitive(makeNumber(Byte.class, BigDecimal::valueOf, BigDecimal::byteValue, Byte.MIN_VALUE, Byte.MAX_VALUE, (byte) 1), byte.class);
 	public static final NumberConfigType<Short> SHORT =
-			makeNumber(Short.class, BigDecimal::valueOf, BigDecimal::shortValue, Short.MIN_VALUE, Short.MAX_VALUE, (short) 1);
+			primitive(makeNumber(Short.class, BigDecimal::valueOf, BigDecimal::shortValue, Short.MIN_VALUE, Short.MAX_VALUE, (short) 1), short.class);
 	public static final NumberConfigType<Integer> INTEGER =
-			makeNumber(Integer.class, BigDecimal::valueOf, BigDecimal::intValue, Integer.MIN_VALUE, Integer.MAX_VALUE, 1);
+			primitive(makeNumber(Integer.class, BigDecimal::valueOf, BigDecimal::intValue, Integer.MIN_VALUE, Integer.MAX_VALUE, 1), int.class);
 	public static final NumberConfigType<Long> LONG =
-			makeNumber(Long.class, BigDecimal::valueOf, BigDecimal::longValue, Long.MIN_VALUE, Long.MAX_VALUE, 1L);
+			primitive(makeNumber(Long.class, BigDecimal::valueOf, BigDecimal::longValue, Long.MIN_VALUE, Long.MAX_VALUE, 1L), long.class);
 	public static final NumberConfigType<Float> FLOAT =
-			makeNumber(Float.class, BigDecimal::valueOf, BigDecimal::floatValue, null, null, null);
+			primitive(makeNumber(Float.class, BigDecimal::valueOf, BigDecimal::floatValue, null, null, null), float.class);
 	public static final NumberConfigType<Double> DOUBLE =
-			makeNumber(Double.class, BigDecimal::valueOf, BigDecimal::doubleValue, null, null, null);
+			primitive(makeNumber(Double.class, BigDecimal::valueOf, BigDecimal::doubleValue, null, null, null), double.class);
 
 	public static final NumberConfigType<Integer> NATURAL = INTEGER.withMinimum(0);
 
@@ -79,6 +80,10 @@ public final class ConfigTypes {
 		);
 	}
 
+	private static <N> NumberConfigType<N> primitive(NumberConfigType<N> type, Class<?> primitiveType) {
+		return new NumberConfigType<>(type.getSerializedType(), type.getRuntimeType(), type.deserializer, type.serializer, primitiveType);
+	}
+
 	/* String-derived types */
 
 	/**
@@ -87,7 +92,7 @@ public final class ConfigTypes {
 	 * @see StringConfigType#withPattern(Pattern)
 	 */
 	public static final StringConfigType<String> STRING =
-			new StringConfigType<>(StringSerializableType.DEFAULT_STRING, String.class, Function.identity(), Function.identity());
+			new StringConfigType<>(StringSerializableType.DEFAULT_STRING, String.class, ConfigType.identity(), ConfigType.identity());
 
 	/**
 	 * A {@link StringConfigType} representing a character.
@@ -130,6 +135,9 @@ public final class ConfigTypes {
 	 * Its {@linkplain ListConfigType#getSerializedType() serialized type} will only accept lists
 	 * where every element is accepted by {@code elementType}.
 	 *
+	 * <p>Runtime lists are unmodifiable views of the serialized lists, converting
+	 * each element on first access.
+	 *
 	 * @param elementType The config type of the set elements.
 	 * @param <S>         The backing serialized type.
 	 * @param <E>         The set element type.
@@ -139,13 +147,12 @@ public final class ConfigTypes {
 		return new ListConfigType<>(
 				new ListSerializableType<>(elementType.getSerializedType()), List.class,
 				l -> {
-					List<E> ret = new ArrayList<>();
-
-					for (S s : l) {
-						ret.add(elementType.toRuntimeType(s));
+					if (elementType.hasIdentityConversion()) {
+						@SuppressWarnings("unchecked") List<E> ret = (List<E>) l;
+						return Collections.unmodifiableList(ret);
 					}
 
-					return Collections.unmodifiableList(ret);
+					return new LazyList<>(l, elementType::toRuntimeTypeUnchecked);
 				},
 				l -> {
 					List<S> ret = new ArrayList<>();
@@ -181,7 +188,7 @@ public final class ConfigTypes {
 					Set<E> ret = new LinkedHashSet<>();
 
 					for (S s : l) {
-						ret.add(elementType.toRuntimeType(s));
+						ret.add(elementType.toRuntimeTypeUnchecked(s));
 					}
 
 					return Collections.unmodifiableSet(ret);
@@ -374,6 +381,13 @@ public final class ConfigTypes {
 		Class<E> boxedComponentType = TypeMagic.wrapPrimitive(componentType);
 		// assert that the unchecked cast above is in fact valid
 		assert boxedComponentType == TypeMagic.wrapPrimitive(elementType.getRuntimeType()) : "Array component type does not match element type modulo boxing";
+
+		if (elementType instanceof NumberConfigType && ((NumberConfigType<?>) elementType).primitiveType == componentType) {
+			// S is BigDecimal for number types
+			@SuppressWarnings("unchecked") ListConfigType<A, S> ret = (ListConfigType<A, S>) (ListConfigType<A, ?>) makePrimitiveArray(arrayType, (NumberConfigType<?>) elementType);
+			return ret;
+		}
+
 		return new ListConfigType<>(
 				new ListSerializableType<>(elementType.getSerializedType()),
 				arrayType,
@@ -381,7 +395,7 @@ public final class ConfigTypes {
 					A arr = arrayType.cast(Array.newInstance(componentType, l.size()));
 
 					for (int i = 0; i < Array.getLength(arr); i++) {
-						Array.set(arr, i, elementType.toRuntimeType(l.get(i)));
+						Array.set(arr, i, elementType.toRuntimeTypeUnchecked(l.get(i)));
 					}
 
 					return arr;
@@ -399,6 +413,103 @@ public final class ConfigTypes {
 		);
 	}
 
+	/**
+	 * Creates a {@link ListConfigType} representing a primitive numeric array, backed by a {@link NumericArrayList}.
+	 *
+	 * <p>Values are copied between arrays in bulk, without converting each element to and from {@link BigDecimal}.
+	 * The conversions are equivalent to those of the primitive {@link NumberConfigType}s.
+	 */
+	private static <A> ListConfigType<A, BigDecimal> makePrimitiveArray(Class<A> arrayType, NumberConfigType<?> elementType) {
+		Class<?> componentType = arrayType.getComponentType();
+		return new ListConfigType<>(
+				new ListSerializableType<>(elementType.getSerializedType()),
+				arrayType,
+				l -> arrayType.cast(toPrimitiveArray(l, componentType)),
+				ConfigTypes::toNumericList
+		);
+	}
+
+	private static Object toPrimitiveArray(List<BigDecimal> l, Class<?> componentType) {
+		NumericArrayList n = l instanceof NumericArrayList ? (NumericArrayList) l : null;
+		boolean integral = n != null && n.isIntegral();
+		int size = l.size();
+
+		if (componentType == double.class) {
+			double[] arr = new double[size];
+
+			for (int i = 0; i < size; i++) {
+				arr[i] = n != null ? n.getDouble(i) : l.get(i).doubleValue();
+			}
+
+			return arr;
+		} else if (componentType == float.class) {
+			float[] arr = new float[size];
+
+			for (int i = 0; i < size; i++) {
+				// narrowing a double directly could round twice
+				arr[i] = integral ? (float) n.getLong(i) : l.get(i).floatValue();
+			}
+
+			return arr;
+		}
+
+		long[] values = new long[size];
+
+		for (int i = 0; i < size; i++) {
+			values[i] = integral ? n.getLong(i) : l.get(i).longValue();
+		}
+
+		if (componentType == long.class) {
+			return values;
+		}
+
+		Object arr = Array.newInstance(componentType, size);
+
+		for (int i = 0; i < size; i++) {
+			// narrowing conversions match BigDecimal#intValue and friends
+			if (componentType == int.class) {
+				((int[]) arr)[i] = (int) values[i];
+			} else if (componentType == short.class) {
+				((short[]) arr)[i] = (short) values[i];
+			} else {
+				((byte[]) arr)[i] = (byte) values[i];
+			}
+		}
+
+		return arr;
+	}
+
+	private static NumericArrayList toNumericList(Object arr) {
+		if (arr instanceof double[]) {
+			return NumericArrayList.wrap(((double[]) arr).clone());
+		} else if (arr instanceof float[]) {
+			float[] floats = (float[]) arr;
+			double[] values = new double[floats.length];
+
+			for (int i = 0; i < floats.length; i++) {
+				values[i] = floats[i];
+			}
+
+			return NumericArrayList.wrap(values);
+		} else if (arr instanceof long[]) {
+			return NumericArrayList.wrap(((long[]) arr).clone());
+		}
+
+		long[] values = new long[Array.getLength(arr)];
+
+		for (int i = 0; i < values.length; i++) {
+			if (arr instanceof int[]) {
+				values[i] = ((int[]) arr)[i];
+			} else if (arr instanceof short[]) {
+				values[i] = ((short[]) arr)[i];
+			} else {
+				values[i] = ((byte[]) arr)[i];
+			}
+		}
+
+		return NumericArrayList.wrap(values);
+	}
+
 	/* Record-derived config types */
 
 	/**
@@ -420,9 +531,14 @@ public final class ConfigTypes {
 				new MapSerializableType<>(keyType.getSerializedType(), valueType.getSerializedType()),
 				Map.class,
 				map -> {
+					if (keyType.hasIdentityConversion() && valueType.hasIdentityConversion()) {
+						@SuppressWarnings("unchecked") Map<K, V> ret = (Map<K, V>) map;
+						return Collections.unmodifiableMap(ret);
+					}
+
 					// this map is likely to contain user-facing data, preserve ordering
-					Map<K, V> ret = new LinkedHashMap<>();
-					map.forEach((k, v) -> ret.put(keyType.toRuntimeType(k), valueType.toRuntimeType(v)));
+					Map<K, V> ret = new LinkedHashMap<>(map.size());
+					map.forEach((k, v) -> ret.put(keyType.toRuntimeTypeUnchecked(k), valueType.toRuntimeTypeUnchecked(v)));
 					return Collections.unmodifiableMap(ret);
 				},
 				map -> {
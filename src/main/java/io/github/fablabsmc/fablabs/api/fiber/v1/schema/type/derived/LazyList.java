@@ -0,0 +1,50 @@
+package io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.derived;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+/**
+ * An unmodifiable list view converting the elements of another list on first access.
+ *
+ * <p>Converted elements are memoized, so that each element of the backing list is converted
+ * at most once in the absence of concurrent accesses. The backing list must not be modified
+ * after this view is created.
+ *
+ * @param <S> the type of elements in the backing list
+ * @param <E> the type of elements in this list
+ */
+final class LazyList<S, E> extends AbstractList<E> implements RandomAccess {
+	private final List<S> backing;
+	private final Function<S, E> converter;
+	private final AtomicReferenceArray<E> converted;
+
+	LazyList(List<S> backing, Function<S, E> converter) {
+		this.backing = backing;
+		this.converter = converter;
+		this.converted = new AtomicReferenceArray<>(backing.size());
+	}
+
+	@Override
+	public E get(int index) {
+		E e = this.converted.get(index);
+
+		if (e == null) {
+			e = this.converter.apply(this.backing.get(index));
+
+			// keep the first published conversion, so that every reader observes the same instance
+			if (!this.converted.compareAndSet(index, null, e)) {
+				e = this.converted.get(index);
+			}
+		}
+
+		return e;
+	}
+
+	@Override
+	public int size() {
+		return this.converted.length();
+	}
+}
@@ -5,6 +5,8 @@ import java.lang.reflect.AnnotatedElement;
 import java.math.BigDecimal;
 import java.util.function.Function;
 
+import javax.annotation.Nullable;
+
 import io.github.fablabsmc.fablabs.api.fiber.v1.annotation.processor.ConstraintAnnotationProcessor;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.DecimalSerializableType;
 
@@ -14,8 +16,20 @@ import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.DecimalSerializableT
  * @param <T> The runtime type of the underlying {@link BigDecimal} value.
  */
 public final class NumberConfigType<T> extends ConfigType<T, BigDecimal, DecimalSerializableType> {
+	/**
+	 * The primitive type this type's conversions are equivalent to, or {@code null}.
+	 * Arrays of that primitive type can then skip the per-element conversions.
+	 */
+	@Nullable
+	final Class<?> primitiveType;
+
 	public NumberConfigType(DecimalSerializableType serializedType, Class<T> runtimeType, Function<BigDecimal, T> f, Function<T, BigDecimal> f0) {
+		this(serializedType, runtimeType, f, f0, null);
+	}
+
+	NumberConfigType(DecimalSerializableType serializedType, Class<T> runtimeType, Function<BigDecimal, T> f, Function<T, BigDecimal> f0, @Nullable Class<?> primitiveType) {
 		super(serializedType, runtimeType, f, f0);
+		this.primitiveType = primitiveType;
 	}
 
 	@Override
@@ -27,7 +41,7 @@ public final class NumberConfigType<T> extends ConfigType<T, BigDecimal, Decimal
 	@Override
 	public NumberConfigType<T> withType(DecimalSerializableType newSpec) {
 		this.checkTypeNarrowing(newSpec);
-		return new NumberConfigType<>(newSpec, this.getRuntimeType(), this.deserializer, this.serializer);
+		return new NumberConfigType<>(newSpec, this.getRuntimeType(), this.deserializer, this.serializer, this.primitiveType);
 	}
 
 	@Override
@@ -0,0 +1,646 @@
+package io.github.fablabsmc.fablabs.api.fiber.v1.serialization;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.github.fablabsmc.fablabs.api.fiber.v1.exception.ValueDeserializationException;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.BooleanSerializableType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.DecimalSerializableType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.EnumSerializableType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.ListSerializableType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.MapSerializableType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.NumericArrayList;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.RecordSerializableType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.SerializableType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.StringSerializableType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigBranch;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigLeaf;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigNode;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigTransaction;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigTree;
+
+/**
+ * Encodes the values of a config tree in a compact binary form, for exchange between parties sharing the same tree structure.
+ *
+ * <p>Leaves are written in tree order, without their names. Values are encoded as follows:
+ * <ul>
+ *     <li>booleans as a single byte,</li>
+ *     <li>integral decimals as zigzag varints, other decimals as a scale and an unscaled value,</li>
+ *     <li>enum values as the varint index of the value among the {@linkplain EnumSerializableType#getValidValues() valid values}, in declaration order,</li>
+ *     <li>strings as a varint length followed by UTF-8 bytes,</li>
+ *     <li>lists and maps as a varint size followed by their elements, map keys being strings,</li>
+ *     <li>records as their fields, in declaration order.</li>
+ * </ul>
+ *
+ * <p>The encoded data starts with a {@linkplain #fingerprint(ConfigTree) fingerprint} of the tree's structure,
+ * followed by the length of the data. Decoding into a tree with a different fingerprint is rejected.
+ * As with the other serialization methods, branches that are {@linkplain ConfigBranch#isSerializedSeparately() serialized separately}
+ * are skipped.
+ */
+public final class BinaryTreeCodec {
+	private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+	private static final long FNV_PRIME = 0x100000001b3L;
+	private static final int BRANCH = 1;
+	private static final int LEAF = 2;
+	private static final int END = 3;
+	/**
+	 * Integral decimals strictly within these bounds are written as a single varint.
+	 */
+	private static final BigDecimal SMALL_MIN = BigDecimal.valueOf(-(1L << 62));
+	private static final BigDecimal SMALL_MAX = BigDecimal.valueOf(1L << 62);
+
+	private BinaryTreeCodec() {
+	}
+
+	/**
+	 * Computes a fingerprint of the structure of a config tree.
+	 *
+	 * <p>The fingerprint covers everything the encoding depends on: the names and order of serialized nodes,
+	 * the kinds of their types, the valid values of enum types and the fields of record types.
+	 * Other type constraints, such as numeric ranges, are not part of the fingerprint.
+	 *
+	 * @param tree the tree to fingerprint
+	 * @return a 64 bit FNV-1a hash of the tree's structure
+	 */
+	public static long fingerprint(ConfigTree tree) {
+		Fingerprint fingerprint = new Fingerprint();
+		fingerprintChildren(tree, fingerprint);
+		return fingerprint.hash;
+	}
+
+	private static void fingerprintChildren(ConfigTree tree, Fingerprint fingerprint) {
+		for (ConfigNode node : tree.getItems()) {
+			if (node instanceof ConfigBranch) {
+				if (!((ConfigBranch) node).isSerializedSeparately()) {
+					fingerprint.add(BRANCH);
+					fingerprint.add(node.getName());
+					fingerprintChildren((ConfigBranch) node, fingerprint);
+					fingerprint.add(END);
+				}
+			} else if (node instanceof ConfigLeaf<?>) {
+				fingerprint.add(LEAF);
+				fingerprint.add(node.getName());
+				fingerprint.serializeType(((ConfigLeaf<?>) node).getConfigType(), fingerprint);
+			}
+		}
+	}
+
+	/**
+	 * Encodes the values of a config tree to a stream.
+	 *
+	 * <p>The data is assembled in memory, then written to {@code out} at once.
+	 *
+	 * @param tree the tree to encode
+	 * @param out  the stream to write to
+	 * @throws IOException if an IO error occurs while writing
+	 */
+	public static void encode(ConfigTree tree, OutputStream out) throws IOException {
+		Output body = new Output();
+		encodeChildren(tree, body);
+		Output header = new Output();
+		header.writeLong(fingerprint(tree));
+		header.writeVarLong(body.count);
+		out.write(header.buf, 0, header.count);
+		out.write(body.buf, 0, body.count);
+	}
+
+	private static void encodeChildren(ConfigTree tree, Output out) {
+		for (ConfigNode node : tree.getItems()) {
+			if (node instanceof ConfigBranch) {
+				if (!((ConfigBranch) node).isSerializedSeparately()) {
+					encodeChildren((ConfigBranch) node, out);
+				}
+			} else if (node instanceof ConfigLeaf<?>) {
+				ConfigLeaf<?> leaf = (ConfigLeaf<?>) node;
+				writeValue(leaf.getConfigType(), leaf.getValue(), out);
+			}
+		}
+	}
+
+	/**
+	 * Decodes values previously {@linkplain #encode(ConfigTree, OutputStream) encoded} from a tree with the same structure.
+	 *
+	 * <p>Exactly the encoded data is read from {@code in}, which can carry more data afterwards.
+	 * Values are only applied once all of them have been decoded successfully, in a single
+	 * {@linkplain ConfigTree#beginTransaction() transaction}: listeners are only notified after every value was set.
+	 * If one of the decoded values cannot be corrected to satisfy its leaf's constraints, the tree is left untouched.
+	 *
+	 * @param tree the tree to decode into
+	 * @param in   the stream to read from
+	 * @throws IOException                   if an IO error occurs while reading
+	 * @throws ValueDeserializationException if the data is malformed, was encoded from a tree with a different structure,
+	 *                                       or holds a value that is invalid for its leaf
+	 */
+	public static void decode(ConfigTree tree, InputStream in) throws IOException, ValueDeserializationException {
+		long fingerprint = readLong(in);
+		long expected = fingerprint(tree);
+
+		if (fingerprint != expected) {
+			throw new ValueDeserializationException(fingerprint, ConfigTree.class, "Schema fingerprint mismatch: expected " + Long.toHexString(expected) + ", got " + Long.toHexString(fingerprint));
+		}
+
+		long length = readVarLong(in);
+
+		if (length < 0 || length > Integer.MAX_VALUE) {
+			throw new ValueDeserializationException(length, ConfigTree.class, "Invalid data length");
+		}
+
+		byte[] data = readFully(in, (int) length);
+		Input input = new Input(data);
+		List<ConfigLeaf<?>> leaves = new ArrayList<>();
+		List<Object> values = new ArrayList<>();
+		decodeChildren(tree, input, leaves, values);
+
+		if (input.pos != data.length) {
+			throw new ValueDeserializationException(null, ConfigTree.class, "Trailing data after the last value");
+		}
+
+		ConfigTransaction transaction = tree.beginTransaction();
+
+		for (int i = 0; i < leaves.size(); i++) {
+			stageValue(transaction, leaves.get(i), values.get(i));
+		}
+
+		if (!transaction.commit()) {
+			throw new ValueDeserializationException(null, ConfigTree.class, "Decoded values do not satisfy the tree's constraints");
+		}
+	}
+
+	private static void decodeChildren(ConfigTree tree, Input in, List<ConfigLeaf<?>> leaves, List<Object> values) throws ValueDeserializationException {
+		for (ConfigNode node : tree.getItems()) {
+			if (node instanceof ConfigBranch) {
+				if (!((ConfigBranch) node).isSerializedSeparately()) {
+					decodeChildren((ConfigBranch) node, in, leaves, values);
+				}
+			} else if (node instanceof ConfigLeaf<?>) {
+				ConfigLeaf<?> leaf = (ConfigLeaf<?>) node;
+				leaves.add(leaf);
+				values.add(readValue(leaf.getConfigType(), in));
+			}
+		}
+	}
+
+	private static <T> void stageValue(ConfigTransaction transaction, ConfigLeaf<T> leaf, Object value) {
+		transaction.stage(leaf, leaf.getConfigType().cast(value));
+	}
+
+	private static void writeValue(SerializableType<?> type, Object value, Output out) {
+		if (type instanceof BooleanSerializableType) {
+			out.writeByte((Boolean) value ? 1 : 0);
+		} else if (type instanceof DecimalSerializableType) {
+			writeDecimal((BigDecimal) value, out);
+		} else if (type instanceof StringSerializableType) {
+			out.writeString((String) value);
+		} else if (type instanceof EnumSerializableType) {
+			out.writeVarLong(ordinal((EnumSerializableType) type, (String) value));
+		} else if (type instanceof ListSerializableType<?>) {
+			List<?> list = (List<?>) value;
+			out.writeVarLong(list.size());
+
+			if (list instanceof NumericArrayList && ((NumericArrayList) list).isIntegral()) {
+				NumericArrayList numbers = (NumericArrayList) list;
+
+				for (int i = 0; i < numbers.size(); i++) {
+					writeIntegral(numbers.getLong(i), out);
+				}
+			} else {
+				SerializableType<?> elementType = ((ListSerializableType<?>) type).getElementType();
+
+				for (Object e : list) {
+					writeValue(elementType, e, out);
+				}
+			}
+		} else if (type instanceof MapSerializableType<?>) {
+			Map<?, ?> map = (Map<?, ?>) value;
+			SerializableType<?> valueType = ((MapSerializableType<?>) type).getValueType();
+			out.writeVarLong(map.size());
+
+			for (Map.Entry<?, ?> entry : map.entrySet()) {
+				out.writeString((String) entry.getKey());
+				writeValue(valueType, entry.getValue(), out);
+			}
+		} else if (type instanceof RecordSerializableType) {
+			Map<?, ?> record = (Map<?, ?>) value;
+
+			for (Map.Entry<String, SerializableType<?>> field : ((RecordSerializableType) type).getFields().entrySet()) {
+				writeValue(field.getValue(), record.get(field.getKey()), out);
+			}
+		} else {
+			throw new IllegalArgumentException("Unsupported type " + type);
+		}
+	}
+
+	private static Object readValue(SerializableType<?> type, Input in) throws ValueDeserializationException {
+		if (type instanceof BooleanSerializableType) {
+			int b = in.readByte();
+
+			if (b > 1) {
+				throw new ValueDeserializationException(b, Boolean.class, "Invalid boolean");
+			}
+
+			return b == 1;
+		} else if (type instanceof DecimalSerializableType) {
+			return readDecimal(in.readVarLong(), in);
+		} else if (type instanceof StringSerializableType) {
+			return in.readString();
+		} else if (type instanceof EnumSerializableType) {
+			return valueAt((EnumSerializableType) type, in.readVarLong());
+		} else if (type instanceof ListSerializableType<?>) {
+			int size = in.readSize();
+			SerializableType<?> elementType = ((ListSerializableType<?>) type).getElementType();
+
+			if (elementType instanceof DecimalSerializableType) {
+				return readDecimals(size, in);
+			}
+
+			List<Object> list = new ArrayList<>(size);
+
+			for (int i = 0; i < size; i++) {
+				list.add(readValue(elementType, in));
+			}
+
+			return list;
+		} else if (type instanceof MapSerializableType<?>) {
+			int size = in.readSize();
+			SerializableType<?> valueType = ((MapSerializableType<?>) type).getValueType();
+			Map<String, Object> map = new LinkedHashMap<>();
+
+			for (int i = 0; i < size; i++) {
+				map.put(in.readString(), readValue(valueType, in));
+			}
+
+			return map;
+		} else if (type instanceof RecordSerializableType) {
+			Map<String, SerializableType<?>> fields = ((RecordSerializableType) type).getFields();
+			Map<String, Object> record = new LinkedHashMap<>(fields.size());
+
+			for (Map.Entry<String, SerializableType<?>> field : fields.entrySet()) {
+				record.put(field.getKey(), readValue(field.getValue(), in));
+			}
+
+			return record;
+		}
+
+		throw new IllegalArgumentException("Unsupported type " + type);
+	}
+
+	private static int ordinal(EnumSerializableType type, String value) {
+		int ordinal = 0;
+
+		for (String validValue : type.getValidValues()) {
+			if (validValue.equals(value)) {
+				return ordinal;
+			}
+
+			ordinal++;
+		}
+
+		throw new IllegalArgumentException("Value " + value + " is not valid for " + type);
+	}
+
+	private static String valueAt(EnumSerializableType type, long ordinal) throws ValueDeserializationException {
+		if (ordinal >= 0 && ordinal < type.getValidValues().size()) {
+			long i = 0;
+
+			for (String validValue : type.getValidValues()) {
+				if (i++ == ordinal) {
+					return validValue;
+				}
+			}
+		}
+
+		throw new ValueDeserializationException(ordinal, String.class, "Invalid enum ordinal");
+	}
+
+	/*
+	 * Decimals start with a varint header. If its lowest bit is clear, the rest of the header is the zigzag encoded value.
+	 * Otherwise, the header holds the zigzag encoded scale above its two lowest bits,
+	 * and the unscaled value follows, either as a zigzag varint or, if the second bit is set, as two's complement bytes.
+	 */
+
+	private static void writeDecimal(BigDecimal value, Output out) {
+		if (value.scale() == 0 && value.compareTo(SMALL_MIN) > 0 && value.compareTo(SMALL_MAX) < 0) {
+			out.writeVarLong(zigzag(value.longValue()) << 1);
+		} else {
+			BigInteger unscaled = value.unscaledValue();
+			long scale = zigzag(value.scale()) << 2;
+
+			if (unscaled.bitLength() < Long.SIZE) {
+				out.writeVarLong(scale | 1);
+				out.writeVarLong(zigzag(unscaled.longValue()));
+			} else {
+				out.writeVarLong(scale | 3);
+				out.writeBytes(unscaled.toByteArray());
+			}
+		}
+	}
+
+	private static void writeIntegral(long value, Output out) {
+		if (value > -(1L << 62) && value < 1L << 62) {
+			out.writeVarLong(zigzag(value) << 1);
+		} else {
+			writeDecimal(BigDecimal.valueOf(value), out);
+		}
+	}
+
+	private static BigDecimal readDecimal(long header, Input in) throws ValueDeserializationException {
+		if ((header & 1) == 0) {
+			return BigDecimal.valueOf(unzigzag(header >>> 1));
+		}
+
+		long scale = unzigzag(header >>> 2);
+
+		if (scale != (int) scale) {
+			throw new ValueDeserializationException(scale, BigDecimal.class, "Invalid decimal scale");
+		}
+
+		if ((header & 2) == 0) {
+			return BigDecimal.valueOf(unzigzag(in.readVarLong()), (int) scale);
+		}
+
+		byte[] unscaled = in.readBytes();
+
+		if (unscaled.length == 0) {
+			throw new ValueDeserializationException(null, BigDecimal.class, "Empty unscaled value");
+		}
+
+		return new BigDecimal(new BigInteger(unscaled), (int) scale);
+	}
+
+	private static List<BigDecimal> readDecimals(int size, Input in) throws ValueDeserializationException {
+		long[] longs = new long[size];
+
+		for (int i = 0; i < size; i++) {
+			long header = in.readVarLong();
+
+			if ((header & 1) == 0) {
+				longs[i] = unzigzag(header >>> 1);
+			} else {
+				// not a small integral value, box everything
+				List<BigDecimal> list = new ArrayList<>(size);
+
+				for (int j = 0; j < i; j++) {
+					list.add(BigDecimal.valueOf(longs[j]));
+				}
+
+				list.add(readDecimal(header, in));
+
+				for (int j = i + 1; j < size; j++) {
+					list.add(readDecimal(in.readVarLong(), in));
+				}
+
+				return list;
+			}
+		}
+
+		return NumericArrayList.wrap(longs);
+	}
+
+	private static long zigzag(long value) {
+		return (value << 1) ^ (value >> 63);
+	}
+
+	private static long unzigzag(long value) {
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	private static long readLong(InputStream in) throws IOException {
+		long value = 0;
+
+		for (int i = 0; i < Long.BYTES; i++) {
+			value = (value << 8) | readByte(in);
+		}
+
+		return value;
+	}
+
+	private static long readVarLong(InputStream in) throws IOException, ValueDeserializationException {
+		long value = 0;
+
+		for (int shift = 0; shift < Long.SIZE; shift += 7) {
+			int b = readByte(in);
+			value |= (long) (b & 0x7F) << shift;
+
+			if ((b & 0x80) == 0) {
+				return value;
+			}
+		}
+
+		throw new ValueDeserializationException(null, Long.class, "Malformed varint");
+	}
+
+	private static int readByte(InputStream in) throws IOException {
+		int b = in.read();
+
+		if (b < 0) {
+			throw new EOFException();
+		}
+
+		return b;
+	}
+
+	private static byte[] readFully(InputStream in, int length) throws IOException {
+		// grow the buffer as data arrives, rather than trusting the announced length
+		byte[] data = new byte[Math.min(length, 8192)];
+		int read = 0;
+
+		while (read < length) {
+			if (read == data.length) {
+				data = Arrays.copyOf(data, (int) Math.min(length, data.length * 2L));
+			}
+
+			int n = in.read(data, read, data.length - read);
+
+			if (n < 0) {
+				throw new EOFException();
+			}
+
+			read += n;
+		}
+
+		return data;
+	}
+
+	private static final class Output {
+		byte[] buf = new byte[256];
+		int count;
+
+		private void ensureCapacity(int extra) {
+			if (this.count + extra > this.buf.length) {
+				this.buf = Arrays.copyOf(this.buf, Math.max(this.buf.length * 2, this.count + extra));
+			}
+		}
+
+		void writeByte(int b) {
+			this.ensureCapacity(1);
+			this.buf[this.count++] = (byte) b;
+		}
+
+		void writeLong(long value) {
+			this.ensureCapacity(Long.BYTES);
+
+			for (int shift = Long.SIZE - 8; shift >= 0; shift -= 8) {
+				this.buf[this.count++] = (byte) (value >>> shift);
+			}
+		}
+
+		void writeVarLong(long value) {
+			this.ensureCapacity(10);
+
+			while ((value & ~0x7FL) != 0) {
+				this.buf[this.count++] = (byte) ((value & 0x7F) | 0x80);
+				value >>>= 7;
+			}
+
+			this.buf[this.count++] = (byte) value;
+		}
+
+		void writeBytes(byte[] bytes) {
+			this.writeVarLong(bytes.length);
+			this.ensureCapacity(bytes.length);
+			System.arraycopy(bytes, 0, this.buf, this.count, bytes.length);
+			this.count += bytes.length;
+		}
+
+		void writeString(String value) {
+			this.writeBytes(value.getBytes(StandardCharsets.UTF_8));
+		}
+	}
+
+	private static final class Input {
+		final byte[] buf;
+		int pos;
+
+		Input(byte[] buf) {
+			this.buf = buf;
+		}
+
+		int readByte() throws ValueDeserializationException {
+			if (this.pos >= this.buf.length) {
+				throw new ValueDeserializationException(null, byte.class, "Unexpected end of data");
+			}
+
+			return this.buf[this.pos++] & 0xFF;
+		}
+
+		long readVarLong() throws ValueDeserializationException {
+			long value = 0;
+
+			for (int shift = 0; shift < Long.SIZE; shift += 7) {
+				int b = this.readByte();
+				value |= (long) (b & 0x7F) << shift;
+
+				if ((b & 0x80) == 0) {
+					return value;
+				}
+			}
+
+			throw new ValueDeserializationException(null, long.class, "Malformed varint at offset " + this.pos);
+		}
+
+		/**
+		 * Reads a size, which cannot exceed the amount of remaining bytes since every element takes at least one.
+		 */
+		int readSize() throws ValueDeserializationException {
+			long size = this.readVarLong();
+
+			if (size < 0 || size > this.buf.length - this.pos) {
+				throw new ValueDeserializationException(size, int.class, "Invalid size at offset " + this.pos);
+			}
+
+			return (int) size;
+		}
+
+		byte[] readBytes() throws ValueDeserializationException {
+			int length = this.readSize();
+			byte[] bytes = Arrays.copyOfRange(this.buf, this.pos, this.pos + length);
+			this.pos += length;
+			return bytes;
+		}
+
+		String readString() throws ValueDeserializationException {
+			int length = this.readSize();
+			String value = new String(this.buf, this.pos, length, StandardCharsets.UTF_8);
+			this.pos += length;
+			return value;
+		}
+	}
+
+	private static final class Fingerprint implements TypeSerializer<Fingerprint> {
+		long hash = FNV_OFFSET_BASIS;
+
+		void add(int value) {
+			for (int shift = 0; shift < Integer.SIZE; shift += 8) {
+				this.hash = (this.hash ^ ((value >>> shift) & 0xFF)) * FNV_PRIME;
+			}
+		}
+
+		void add(String value) {
+			this.add(value.length());
+
+			for (int i = 0; i < value.length(); i++) {
+				char c = value.charAt(i);
+				this.hash = (this.hash ^ (c & 0xFF)) * FNV_PRIME;
+				this.hash = (this.hash ^ (c >>> 8)) * FNV_PRIME;
+			}
+		}
+
+		@Override
+		public void serialize(BooleanSerializableType type, Fingerprint target) {
+			target.add('Z');
+		}
+
+		@Override
+		public void serialize(DecimalSerializableType type, Fingerprint target) {
+			target.add('D');
+		}
+
+		@Override
+		public void serialize(EnumSerializableType type, Fingerprint target) {
+			target.add('E');
+			target.add(type.getValidValues().size());
+
+			for (String value : type.getValidValues()) {
+				target.add(value);
+			}
+		}
+
+		@Override
+		public void serialize(ListSerializableType<?> type, Fingerprint target) {
+			target.add('L');
+			this.serializeType(type.getElementType(), target);
+		}
+
+		@Override
+		public void serialize(MapSerializableType<?> type, Fingerprint target) {
+			target.add('M');
+			this.serializeType(type.getValueType(), target);
+		}
+
+		@Override
+		public void serialize(RecordSerializableType type, Fingerprint target) {
+			target.add('R');
+			target.add(type.getFields().size());
+
+			for (Map.Entry<String, SerializableType<?>> field : type.getFields().entrySet()) {
+				target.add(field.getKey());
+				this.serializeType(field.getValue(), target);
+			}
+		}
+
+		@Override
+		public void serialize(StringSerializableType type, Fingerprint target) {
+			target.add('S');
+		}
+	}
+}
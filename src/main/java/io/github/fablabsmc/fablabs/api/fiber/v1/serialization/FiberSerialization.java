@@ -3,16 +3,29 @@ package io.github.fablabsmc.fablabs.api.fiber.v1.serialization;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.annotation.Nullable;
 
 import io.github.fablabsmc.fablabs.api.fiber.v1.exception.ValueDeserializationException;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.SerializableType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.TypeCheckResult;
 import io.github.fablabsmc.fablabs.api.fiber.v1.tree.Commentable;
 import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigBranch;
 import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigLeaf;
 import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigNode;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigSnapshot;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigTransaction;
 import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigTree;
+import io.github.fablabsmc.fablabs.impl.fiber.tree.ConfigNodeImpl;
 
 /**
  * Static class that houses Fiber's serialization and deserialization algorithms.
@@ -31,6 +44,387 @@ public final class FiberSerialization {
 		ctx.writeTarget(target, out);
 	}
 
+	/**
+	 * Serializes the values captured by a snapshot of a config tree.
+	 *
+	 * <p>Names, comments and {@linkplain ConfigBranch#isSerializedSeparately() separate serialization} settings are read
+	 * from {@code tree}, while values are read from {@code snapshot}. The written document therefore describes exactly
+	 * the version of the tree held by the snapshot, even if the tree changes while it is being written.
+	 * Nodes that do not appear in the snapshot are skipped.
+	 *
+	 * @param tree     the tree to serialize
+	 * @param snapshot a snapshot of {@code tree}
+	 * @param out      the stream to write to
+	 * @param ctx      the serializer
+	 * @throws IOException if an IO error occurs while writing
+	 * @see ConfigSnapshot#of(ConfigTree, ConfigSnapshot)
+	 */
+	public static <A, T> void serialize(ConfigTree tree, ConfigSnapshot snapshot, OutputStream out, ValueSerializer<A, T> ctx) throws IOException {
+		T target = ctx.newTarget();
+		serializeSnapshot(tree, snapshot, target, ctx);
+		ctx.writeTarget(target, out);
+	}
+
+	private static <A, T> void serializeSnapshot(ConfigTree tree, ConfigSnapshot snapshot, T target, ValueSerializer<A, T> ctx) {
+		for (ConfigNode node : tree.getItems()) {
+			String name = Objects.requireNonNull(node.getName());
+			String comment = node instanceof Commentable ? ((Commentable) node).getComment() : null;
+
+			if (node instanceof ConfigBranch) {
+				ConfigBranch branch = (ConfigBranch) node;
+				ConfigSnapshot subSnapshot = snapshot.getBranch(name);
+
+				if (!branch.isSerializedSeparately() && subSnapshot != null) {
+					T subTarget = ctx.newTarget();
+					serializeSnapshot(branch, subSnapshot, subTarget, ctx);
+					ctx.addSubElement(name, subTarget, target, comment);
+				}
+			} else if (node instanceof ConfigLeaf<?>) {
+				SerializableType<?> type = snapshot.getType(name);
+
+				if (type != null) {
+					ctx.addElement(name, serializeSnapshotValue(type, snapshot, name, ctx), target, comment);
+				}
+			}
+		}
+	}
+
+	private static <T, A> A serializeSnapshotValue(SerializableType<T> type, ConfigSnapshot snapshot, String name, ValueSerializer<A, ?> ctx) {
+		// the type was read from the same entry, so the value is always present
+		return type.serializeValue(snapshot.getValue(type, name).get(), ctx);
+	}
+
+	/**
+	 * Serializes a config tree if any of its nodes is {@linkplain ConfigNode#isDirty() dirty}, and marks it clean.
+	 *
+	 * <p>If nothing changed since the tree was last marked clean, this method returns immediately without doing any work.
+	 * Otherwise, dirty flags are cleared before the tree is serialized in full, so that concurrent changes are never lost.
+	 *
+	 * @param tree the tree to serialize
+	 * @param out  the stream to write to
+	 * @param ctx  the serializer
+	 * @return {@code true} if the tree was serialized
+	 * @throws IOException if an IO error occurs while writing
+	 */
+	public static <A, T> boolean serializeIfDirty(ConfigTree tree, OutputStream out, ValueSerializer<A, T> ctx) throws IOException {
+		if (!clearDirty(tree)) {
+			return false;
+		}
+
+		serialize(tree, out, ctx);
+		return true;
+	}
+
+	/**
+	 * Serializes the {@linkplain ConfigNode#isDirty() dirty} nodes of a config tree as a delta document, and marks them clean.
+	 *
+	 * <p>The document only contains the leaves that changed since they were last marked clean, nested within their branches.
+	 * Since deserialization ignores absent entries, applying the delta to a tree updates exactly those leaves.
+	 * If nothing changed, this method returns immediately without writing anything.
+	 *
+	 * @param tree the tree to serialize
+	 * @param out  the stream to write to
+	 * @param ctx  the serializer
+	 * @return {@code true} if a delta was written
+	 * @throws IOException if an IO error occurs while writing
+	 */
+	public static <A, T> boolean serializeDirty(ConfigTree tree, OutputStream out, ValueSerializer<A, T> ctx) throws IOException {
+		if (!clearRootDirty(tree)) {
+			return false;
+		}
+
+		T target = ctx.newTarget();
+
+		for (ConfigNode node : tree.getItems()) {
+			serializeDirtyNode(node, target, ctx);
+		}
+
+		ctx.writeTarget(target, out);
+		return true;
+	}
+
+	/**
+	 * Clears the dirty flags of a whole tree.
+	 */
+	private static boolean clearDirty(ConfigTree tree) {
+		if (tree instanceof ConfigNode) {
+			return ((ConfigNode) tree).clearDirty();
+		}
+
+		// not tracked, clear the children instead
+		boolean dirty = false;
+
+		for (ConfigNode node : tree.getItems()) {
+			if (!(node instanceof ConfigBranch && ((ConfigBranch) node).isSerializedSeparately())) {
+				dirty |= node.clearDirty();
+			}
+		}
+
+		return dirty;
+	}
+
+	/**
+	 * Clears the dirty flag of the root of a tree, leaving its descendants to be cleared as they are visited.
+	 */
+	private static boolean clearRootDirty(ConfigTree tree) {
+		if (tree instanceof ConfigNode) {
+			return ConfigNodeImpl.clearNodeDirty((ConfigNode) tree);
+		}
+
+		// not tracked, check the children instead
+		for (ConfigNode node : tree.getItems()) {
+			if (node.isDirty()) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private static <A, T> void serializeDirtyNode(ConfigNode node, T target, ValueSerializer<A, T> ctx) {
+		if ((node instanceof ConfigBranch && ((ConfigBranch) node).isSerializedSeparately()) || !ConfigNodeImpl.clearNodeDirty(node)) {
+			return;
+		}
+
+		String name = Objects.requireNonNull(node.getName());
+		String comment = node instanceof Commentable ? ((Commentable) node).getComment() : null;
+
+		if (node instanceof ConfigBranch) {
+			T subTarget = ctx.newTarget();
+
+			for (ConfigNode subNode : ((ConfigBranch) node).getItems()) {
+				serializeDirtyNode(subNode, subTarget, ctx);
+			}
+
+			ctx.addSubElement(name, subTarget, target, comment);
+		} else if (node instanceof ConfigLeaf<?>) {
+			ctx.addElement(name, serializeValue((ConfigLeaf<?>) node, ctx), target, comment);
+		}
+	}
+
+	/**
+	 * Serializes the leaves of a config tree that do not hold their {@linkplain ConfigLeaf#getDefaultValue() default value}.
+	 *
+	 * <p>Leaves holding their default value are omitted, as are branches left without any serialized descendant.
+	 * Documents written by this method are meant to be read with {@link #deserializeSparse(ConfigTree, InputStream, ValueSerializer)}.
+	 *
+	 * @param tree the tree to serialize
+	 * @param out  the stream to write to
+	 * @param ctx  the serializer
+	 * @throws IOException if an IO error occurs while writing
+	 */
+	public static <A, T> void serializeSparse(ConfigTree tree, OutputStream out, ValueSerializer<A, T> ctx) throws IOException {
+		T target = ctx.newTarget();
+
+		for (ConfigNode node : tree.getItems()) {
+			serializeSparseNode(node, target, ctx);
+		}
+
+		ctx.writeTarget(target, out);
+	}
+
+	/**
+	 * @return {@code true} if anything was added to {@code target}
+	 */
+	private static <A, T> boolean serializeSparseNode(ConfigNode node, T target, ValueSerializer<A, T> ctx) {
+		String name = Objects.requireNonNull(node.getName());
+		String comment = node instanceof Commentable ? ((Commentable) node).getComment() : null;
+
+		if (node instanceof ConfigBranch) {
+			ConfigBranch branch = (ConfigBranch) node;
+
+			if (!branch.isSerializedSeparately()) {
+				T subTarget = ctx.newTarget();
+				boolean empty = true;
+
+				for (ConfigNode subNode : branch.getItems()) {
+					empty &= !serializeSparseNode(subNode, subTarget, ctx);
+				}
+
+				if (!empty) {
+					ctx.addSubElement(name, subTarget, target, comment);
+					return true;
+				}
+			}
+		} else if (node instanceof ConfigLeaf<?>) {
+			ConfigLeaf<?> leaf = (ConfigLeaf<?>) node;
+
+			if (!isDefault(leaf)) {
+				ctx.addElement(name, serializeValue(leaf, ctx), target, comment);
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private static <T> boolean isDefault(ConfigLeaf<T> leaf) {
+		T value = leaf.getValue();
+		T defaultValue = leaf.getDefaultValue();
+		// leaves that were never set hold their default value itself
+		return value == defaultValue || sameValue(defaultValue, value);
+	}
+
+	/**
+	 * Compares two config values, ignoring the scale of decimals: {@code 1.0} is the same value as {@code 1}.
+	 */
+	private static boolean sameValue(@Nullable Object a, @Nullable Object b) {
+		if (a == b) return true;
+		if (a == null || b == null) return false;
+
+		if (a instanceof BigDecimal && b instanceof BigDecimal) {
+			return ((BigDecimal) a).compareTo((BigDecimal) b) == 0;
+		}
+
+		if (a instanceof List && b instanceof List) {
+			List<?> listA = (List<?>) a;
+			List<?> listB = (List<?>) b;
+			if (listA.size() != listB.size()) return false;
+
+			for (int i = 0; i < listA.size(); i++) {
+				if (!sameValue(listA.get(i), listB.get(i))) return false;
+			}
+
+			return true;
+		}
+
+		if (a instanceof Map && b instanceof Map) {
+			Map<?, ?> mapA = (Map<?, ?>) a;
+			Map<?, ?> mapB = (Map<?, ?>) b;
+			if (mapA.size() != mapB.size()) return false;
+
+			for (Map.Entry<?, ?> entry : mapA.entrySet()) {
+				if (!mapB.containsKey(entry.getKey()) || !sameValue(entry.getValue(), mapB.get(entry.getKey()))) return false;
+			}
+
+			return true;
+		}
+
+		return a.equals(b);
+	}
+
+	/**
+	 * Deserializes a document written by {@link #serializeSparse(ConfigTree, OutputStream, ValueSerializer)} into a config tree.
+	 *
+	 * <p>Leaves present in the document are set to the deserialized value. Every other leaf
+	 * is reset to its {@linkplain ConfigLeaf#getDefaultValue() default value}, unless it already holds it.
+	 * Deserialized values equal to the default are replaced with the default itself,
+	 * which makes later sparse serializations of unchanged leaves cheaper.
+	 * As with regular serialization, branches {@linkplain ConfigBranch#isSerializedSeparately() serialized separately} are left untouched.
+	 *
+	 * @param tree the tree to deserialize into
+	 * @param in   the stream to read from
+	 * @param ctx  the serializer
+	 * @throws IOException                   if an IO error occurs while reading
+	 * @throws ValueDeserializationException if the document is malformed, or a value cannot be deserialized
+	 */
+	public static <A, T> void deserializeSparse(ConfigTree tree, InputStream in, ValueSerializer<A, T> ctx) throws IOException, ValueDeserializationException {
+		T target = ctx.readTarget(in);
+		deserializeSparseChildren(tree, ctx.elements(target), ctx);
+	}
+
+	private static <A, T> void deserializeSparseChildren(ConfigTree tree, Iterator<Map.Entry<String, A>> elements, ValueSerializer<A, T> ctx) throws ValueDeserializationException {
+		Set<ConfigNode> present = Collections.newSetFromMap(new IdentityHashMap<>());
+
+		while (elements.hasNext()) {
+			Map.Entry<String, A> entry = elements.next();
+			ConfigNode node = tree.lookup(entry.getKey());
+
+			if (node instanceof ConfigBranch) {
+				present.add(node);
+				deserializeSparseChildren((ConfigBranch) node, ctx.subElements(entry.getValue()), ctx);
+			} else if (node instanceof ConfigLeaf<?>) {
+				present.add(node);
+				deserializeSparseValue((ConfigLeaf<?>) node, entry.getValue(), ctx);
+			}
+		}
+
+		if (present.size() < tree.getItems().size()) {
+			for (ConfigNode node : tree.getItems()) {
+				if (!present.contains(node)) {
+					resetToDefault(node);
+				}
+			}
+		}
+	}
+
+	private static <T, A> void deserializeSparseValue(ConfigLeaf<T> leaf, A elem, ValueSerializer<A, ?> ctx) throws ValueDeserializationException {
+		T value = leaf.getConfigType().deserializeValue(elem, ctx);
+		T defaultValue = leaf.getDefaultValue();
+		leaf.setValue(sameValue(defaultValue, value) ? defaultValue : value);
+	}
+
+	private static void resetToDefault(ConfigNode node) {
+		if (node instanceof ConfigBranch) {
+			ConfigBranch branch = (ConfigBranch) node;
+
+			if (!branch.isSerializedSeparately()) {
+				for (ConfigNode subNode : branch.getItems()) {
+					resetToDefault(subNode);
+				}
+			}
+		} else if (node instanceof ConfigLeaf<?>) {
+			resetLeaf((ConfigLeaf<?>) node);
+		}
+	}
+
+	private static <T> void resetLeaf(ConfigLeaf<T> leaf) {
+		T defaultValue = leaf.getDefaultValue();
+
+		if (defaultValue != null && leaf.getValue() != defaultValue) {
+			leaf.setValue(defaultValue);
+		}
+	}
+
+	/**
+	 * Serializes a config tree by walking it and pushing its content to a streaming serializer.
+	 *
+	 * <p>Unlike {@link #serialize(ConfigTree, OutputStream, ValueSerializer)}, no intermediate document is built:
+	 * memory usage only depends on the depth of the tree and on the serializer's buffering.
+	 * The serializer is flushed once the tree has been written.
+	 *
+	 * @param tree the tree to serialize
+	 * @param out  the streaming serializer to write to
+	 * @throws IOException if an IO error occurs while writing
+	 */
+	public static void serialize(ConfigTree tree, StreamingSerializer out) throws IOException {
+		out.beginObject();
+
+		for (ConfigNode node : tree.getItems()) {
+			writeNode(node, out);
+		}
+
+		out.endObject();
+		out.flush();
+	}
+
+	private static void writeNode(ConfigNode node, StreamingSerializer out) throws IOException {
+		String name = Objects.requireNonNull(node.getName());
+		String comment = node instanceof Commentable ? ((Commentable) node).getComment() : null;
+
+		if (node instanceof ConfigBranch) {
+			ConfigBranch branch = (ConfigBranch) node;
+
+			if (!branch.isSerializedSeparately()) {
+				out.field(name, comment);
+				out.beginObject();
+
+				for (ConfigNode subNode : branch.getItems()) {
+					writeNode(subNode, out);
+				}
+
+				out.endObject();
+			}
+		} else if (node instanceof ConfigLeaf<?>) {
+			out.field(name, comment);
+			writeValue((ConfigLeaf<?>) node, out);
+		}
+	}
+
+	private static <T> void writeValue(ConfigLeaf<T> leaf, StreamingSerializer out) throws IOException {
+		leaf.getConfigType().writeValue(leaf.getValue(), out);
+	}
+
 	public static <A, T> void deserialize(ConfigTree tree, InputStream in, ValueSerializer<A, T> ctx) throws IOException, ValueDeserializationException {
 		T target = ctx.readTarget(in);
 
@@ -45,6 +439,97 @@ public final class FiberSerialization {
 		}
 	}
 
+	/**
+	 * Deserializes into a config tree by walking it alongside a streaming deserializer.
+	 *
+	 * <p>Leaf values are set as soon as they are read. Entries that do not correspond to a node
+	 * of the tree are skipped without being materialized. Unlike {@link #deserialize(ConfigTree, InputStream, ValueSerializer)},
+	 * malformed input is only detected when it is reached, so values read before it stay applied.
+	 *
+	 * @param tree the tree to deserialize into
+	 * @param in   the streaming deserializer to read from
+	 * @throws IOException                   if an IO error occurs while reading
+	 * @throws ValueDeserializationException if the input is malformed, or a value cannot be read
+	 */
+	public static void deserialize(ConfigTree tree, StreamingDeserializer in) throws IOException, ValueDeserializationException {
+		in.beginObject();
+		readBranch(tree, in);
+		in.endObject();
+	}
+
+	private static void readBranch(ConfigTree tree, StreamingDeserializer in) throws IOException, ValueDeserializationException {
+		while (in.hasNext()) {
+			ConfigNode node = tree.lookup(in.nextName());
+
+			if (node instanceof ConfigBranch) {
+				in.beginObject();
+				readBranch((ConfigBranch) node, in);
+				in.endObject();
+			} else if (node instanceof ConfigLeaf<?>) {
+				readValue((ConfigLeaf<?>) node, in);
+			} else {
+				in.skipValue();
+			}
+		}
+	}
+
+	private static <T> void readValue(ConfigLeaf<T> leaf, StreamingDeserializer in) throws IOException, ValueDeserializationException {
+		leaf.setValue(leaf.getConfigType().readValue(in));
+	}
+
+	/**
+	 * Deserializes into a config tree, then publishes a new snapshot of that tree.
+	 *
+	 * <p>The whole input is decoded before the tree is touched. Decoded values are then applied as a single
+	 * {@linkplain ConfigTransaction#commit(AtomicReference) transaction}, which publishes a new snapshot
+	 * with a compare-and-set on {@code published}. Threads reading their config through {@code published}
+	 * observe either the old or the new version as a whole, never a partially applied one.
+	 *
+	 * <p>The new snapshot is built from the decoded values and the previously published snapshot, rather than
+	 * from the live tree: values set concurrently by other threads do not leak into it, and subtrees left
+	 * unchanged by the deserialization are shared between both versions. Reloads publishing to the same reference
+	 * are serialized, so none of them is lost.
+	 *
+	 * <p>As with {@link ConfigLeaf#setValue(Object)}, values that violate their leaf's constraints are corrected,
+	 * or ignored if they cannot be.
+	 *
+	 * @param tree      the tree to deserialize into
+	 * @param in        the input to read from
+	 * @param ctx       the serializer to use
+	 * @param published the reference through which snapshots of {@code tree} are published
+	 * @return the published snapshot
+	 */
+	public static <A, T> ConfigSnapshot deserialize(ConfigTree tree, InputStream in, ValueSerializer<A, T> ctx, AtomicReference<ConfigSnapshot> published) throws IOException, ValueDeserializationException {
+		T target = ctx.readTarget(in);
+		ConfigTransaction transaction = tree.beginTransaction();
+		stageChildren(tree, ctx.elements(target), ctx, transaction);
+		// every staged value can be corrected, so the commit cannot be rolled back
+		return Objects.requireNonNull(transaction.commit(published));
+	}
+
+	private static <A, T> void stageChildren(ConfigTree tree, Iterator<Map.Entry<String, A>> elements, ValueSerializer<A, T> ctx, ConfigTransaction transaction) throws ValueDeserializationException {
+		while (elements.hasNext()) {
+			Map.Entry<String, A> entry = elements.next();
+			ConfigNode node = tree.lookup(entry.getKey());
+
+			if (node instanceof ConfigBranch) {
+				stageChildren((ConfigBranch) node, ctx.subElements(entry.getValue()), ctx, transaction);
+			} else if (node instanceof ConfigLeaf<?>) {
+				stageValue((ConfigLeaf<?>) node, entry.getValue(), ctx, transaction);
+			}
+		}
+	}
+
+	private static <T, A> void stageValue(ConfigLeaf<T> leaf, A elem, ValueSerializer<A, ?> ctx, ConfigTransaction transaction) throws ValueDeserializationException {
+		T value = leaf.getConfigType().deserializeValue(elem, ctx);
+		TypeCheckResult<T> result = leaf.getConfigType().check(value);
+
+		// uncorrectable values are skipped, like setValue rejects them, instead of failing the whole transaction
+		if (result.hasPassed() || result.getCorrectedValueOrNull() != null) {
+			transaction.stage(leaf, value);
+		}
+	}
+
 	public static <A, T> void serializeNode(ConfigNode node, T target, ValueSerializer<A, T> ctx) {
 		String name = Objects.requireNonNull(node.getName());
 		String comment;
@@ -4,7 +4,6 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.math.BigDecimal;
-import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
@@ -25,6 +24,7 @@ import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.DecimalSerializableT
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.EnumSerializableType;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.ListSerializableType;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.MapSerializableType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.NumericArrayList;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.RecordSerializableType;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.SerializableType;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.StringSerializableType;
@@ -140,6 +140,49 @@ public class JanksonValueSerializer implements ValueSerializer<JsonElement, Json
 		throw new ValueDeserializationException(elem, List.class, "JsonElement of wrong type");
 	}
 
+	@Override
+	public JsonElement serializeNumericArray(NumericArrayList value, ListSerializableType<BigDecimal> type) {
+		if (!value.isIntegral()) {
+			// keep the exact textual representation of BigDecimal
+			return this.serializeList(value, type);
+		}
+
+		JsonArray arr = new JsonArray();
+
+		for (int i = 0; i < value.size(); i++) {
+			arr.add(new JsonPrimitive(value.getLong(i)));
+		}
+
+		return arr;
+	}
+
+	@Override
+	public List<BigDecimal> deserializeNumericArray(JsonElement elem, ListSerializableType<BigDecimal> type) throws ValueDeserializationException {
+		if (elem instanceof JsonArray) {
+			JsonArray arr = (JsonArray) elem;
+			long[] values = new long[arr.size()];
+
+			try {
+				for (int i = 0; i < values.length; i++) {
+					JsonElement e = arr.get(i);
+
+					if (!(e instanceof JsonPrimitive)) {
+						return this.deserializeList(elem, type);
+					}
+
+					values[i] = Long.parseLong(((JsonPrimitive) e).asString());
+				}
+			} catch (NumberFormatException e) {
+				// not an integral array, let the generic path handle (or reject) it
+				return this.deserializeList(elem, type);
+			}
+
+			return NumericArrayList.wrap(values);
+		}
+
+		return this.deserializeList(elem, type);
+	}
+
 	@Override
 	public <V> JsonElement serializeMap(Map<String, V> value, MapSerializableType<V> type) {
 		JsonObject obj = new JsonObject();
@@ -241,7 +284,51 @@ public class JanksonValueSerializer implements ValueSerializer<JsonElement, Json
 
 	@Override
 	public void writeTarget(JsonObject target, OutputStream out) throws IOException {
-		out.write(target.toJson(!this.minify, !this.minify).getBytes(StandardCharsets.UTF_8));
+		this.writeTarget(target, out, new byte[JsonStreamingSerializer.DEFAULT_BUFFER_SIZE]);
+	}
+
+	/**
+	 * Writes a target to the given output stream, using a caller-supplied encoding buffer.
+	 *
+	 * <p>The target is rendered incrementally and encoded as UTF-8 directly into {@code buffer},
+	 * which is written to {@code out} every time it fills up. The full text of the document is
+	 * never held in memory, and the same buffer can be reused for subsequent writes.
+	 *
+	 * @param target the target
+	 * @param out    the output stream
+	 * @param buffer the buffer used to encode text, of at least 4 bytes
+	 * @throws IOException if an IO error occurs while writing to the stream
+	 * @see #writeTarget(JsonObject, OutputStream)
+	 */
+	public void writeTarget(JsonObject target, OutputStream out, byte[] buffer) throws IOException {
+		JsonStreamingSerializer serializer = new JsonStreamingSerializer(out, buffer, this.minify);
+		this.writeElement(target, serializer);
+		serializer.flush();
+	}
+
+	private void writeElement(JsonElement elem, JsonStreamingSerializer out) throws IOException {
+		if (elem instanceof JsonObject) {
+			JsonObject obj = (JsonObject) elem;
+			out.beginObject();
+
+			for (Map.Entry<String, JsonElement> entry : obj.entrySet()) {
+				out.field(entry.getKey(), obj.getComment(entry.getKey()));
+				this.writeElement(entry.getValue(), out);
+			}
+
+			out.endObject();
+		} else if (elem instanceof JsonArray) {
+			out.beginArray();
+
+			for (JsonElement e : (JsonArray) elem) {
+				this.writeElement(e, out);
+			}
+
+			out.endArray();
+		} else {
+			// primitives and nulls are small, let Jankson format them
+			out.writeRaw(elem.toJson(!this.minify, !this.minify));
+		}
 	}
 
 	@Override
@@ -0,0 +1,485 @@
+package io.github.fablabsmc.fablabs.api.fiber.v1.serialization;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import javax.annotation.Nullable;
+
+import io.github.fablabsmc.fablabs.api.fiber.v1.exception.ValueDeserializationException;
+
+/**
+ * A {@link StreamingDeserializer} reading JSON5 text.
+ *
+ * <p>This reader accepts the documents written by {@link JanksonValueSerializer} and {@link JsonStreamingSerializer},
+ * along with the most common JSON5 extensions: line and block comments, single quoted strings,
+ * unquoted keys, and missing or trailing commas. Input is read through a fixed size buffer, and
+ * {@link #skipValue()} scans over skipped values without building any string or structure.
+ *
+ * <p>Instances are not thread safe.
+ */
+public class JsonStreamingDeserializer implements StreamingDeserializer {
+	private static final int EMPTY_DOCUMENT = 0;
+	private static final int NONEMPTY_DOCUMENT = 1;
+	private static final int EMPTY_OBJECT = 2;
+	private static final int NONEMPTY_OBJECT = 3;
+	private static final int DANGLING_NAME = 4;
+	private static final int EMPTY_ARRAY = 5;
+	private static final int NONEMPTY_ARRAY = 6;
+
+	private final Reader in;
+	private final char[] buffer = new char[1024];
+	private int pos;
+	private int limit;
+	/**
+	 * The number of characters discarded from the buffer so far, used to report error locations.
+	 */
+	private long offset;
+	private int[] scopes = new int[16];
+	private int depth = 1;
+	@Nullable
+	private Token peeked;
+	/**
+	 * The quote character opening the peeked name or string, or {@code 0} if it is unquoted.
+	 */
+	private char peekedQuote;
+	private boolean peekedBoolean;
+	private final StringBuilder text = new StringBuilder();
+
+	/**
+	 * Creates a deserializer reading UTF-8 encoded text from the given stream.
+	 *
+	 * @param in the stream to read from
+	 */
+	public JsonStreamingDeserializer(InputStream in) {
+		this(new InputStreamReader(in, StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Creates a deserializer reading text from the given reader.
+	 *
+	 * @param in the reader to read from
+	 */
+	public JsonStreamingDeserializer(Reader in) {
+		this.in = in instanceof BufferedReader ? in : new BufferedReader(in);
+		this.scopes[0] = EMPTY_DOCUMENT;
+	}
+
+	@Override
+	public Token peek() throws ValueDeserializationException, IOException {
+		if (this.peeked != null) {
+			return this.peeked;
+		}
+
+		int scope = this.scopes[this.depth - 1];
+		int c;
+
+		switch (scope) {
+		case EMPTY_DOCUMENT:
+			this.scopes[this.depth - 1] = NONEMPTY_DOCUMENT;
+			return this.peeked = this.peekValue(this.nextNonWhitespace());
+		case NONEMPTY_DOCUMENT:
+			c = this.nextNonWhitespace();
+			if (c != -1) throw this.syntaxError("Expected end of document");
+			return this.peeked = Token.END_DOCUMENT;
+		case EMPTY_OBJECT:
+		case NONEMPTY_OBJECT:
+			c = this.nextNonWhitespace();
+
+			if (c == ',' && scope == NONEMPTY_OBJECT) {
+				c = this.nextNonWhitespace();
+			}
+
+			if (c == '}') {
+				return this.peeked = Token.END_OBJECT;
+			}
+
+			if (c == -1 || c == ',' || c == ':' || c == '{' || c == '[' || c == ']') {
+				throw this.syntaxError("Expected a key");
+			}
+
+			this.scopes[this.depth - 1] = DANGLING_NAME;
+			this.setQuote(c);
+			return this.peeked = Token.NAME;
+		case DANGLING_NAME:
+			if (this.nextNonWhitespace() != ':') throw this.syntaxError("Expected ':'");
+			this.scopes[this.depth - 1] = NONEMPTY_OBJECT;
+			return this.peeked = this.peekValue(this.nextNonWhitespace());
+		case EMPTY_ARRAY:
+		case NONEMPTY_ARRAY:
+			c = this.nextNonWhitespace();
+
+			if (c == ',' && scope == NONEMPTY_ARRAY) {
+				c = this.nextNonWhitespace();
+			}
+
+			if (c == ']') {
+				return this.peeked = Token.END_ARRAY;
+			}
+
+			this.scopes[this.depth - 1] = NONEMPTY_ARRAY;
+			return this.peeked = this.peekValue(c);
+		default:
+			throw new IllegalStateException("Unknown scope " + scope);
+		}
+	}
+
+	private Token peekValue(int c) throws ValueDeserializationException, IOException {
+		switch (c) {
+		case '{':
+			return Token.BEGIN_OBJECT;
+		case '[':
+			return Token.BEGIN_ARRAY;
+		case '"':
+		case '\'':
+			this.peekedQuote = (char) c;
+			return Token.STRING;
+		case -1:
+			throw this.syntaxError("Unexpected end of document");
+		default:
+			if (isDelimiter(c)) throw this.syntaxError("Unexpected character '" + (char) c + "'");
+			this.pos--;
+			this.peekedQuote = 0;
+		}
+
+		if (c == '-' || c == '+' || c == '.' || (c >= '0' && c <= '9')) {
+			return Token.NUMBER;
+		}
+
+		String literal = this.readUnquoted();
+
+		switch (literal) {
+		case "true":
+			this.peekedBoolean = true;
+			return Token.BOOLEAN;
+		case "false":
+			this.peekedBoolean = false;
+			return Token.BOOLEAN;
+		case "null":
+			return Token.NULL;
+		default:
+			throw this.syntaxError("Unexpected literal " + literal);
+		}
+	}
+
+	private void setQuote(int c) {
+		if (c == '"' || c == '\'') {
+			this.peekedQuote = (char) c;
+		} else {
+			this.pos--;
+			this.peekedQuote = 0;
+		}
+	}
+
+	@Override
+	public void beginObject() throws ValueDeserializationException, IOException {
+		this.expect(Token.BEGIN_OBJECT);
+		this.push(EMPTY_OBJECT);
+	}
+
+	@Override
+	public void endObject() throws ValueDeserializationException, IOException {
+		this.expect(Token.END_OBJECT);
+		this.depth--;
+	}
+
+	@Override
+	public void beginArray() throws ValueDeserializationException, IOException {
+		this.expect(Token.BEGIN_ARRAY);
+		this.push(EMPTY_ARRAY);
+	}
+
+	@Override
+	public void endArray() throws ValueDeserializationException, IOException {
+		this.expect(Token.END_ARRAY);
+		this.depth--;
+	}
+
+	@Override
+	public String nextName() throws ValueDeserializationException, IOException {
+		this.expect(Token.NAME);
+		return this.peekedQuote != 0 ? this.readQuoted(this.peekedQuote) : this.readUnquoted();
+	}
+
+	@Override
+	public boolean nextBoolean() throws ValueDeserializationException, IOException {
+		this.expect(Token.BOOLEAN);
+		return this.peekedBoolean;
+	}
+
+	@Override
+	public BigDecimal nextNumber() throws ValueDeserializationException, IOException {
+		Token token = this.peek();
+		String value;
+
+		if (token == Token.NUMBER) {
+			this.peeked = null;
+			value = this.readUnquoted();
+		} else if (token == Token.STRING) {
+			this.peeked = null;
+			value = this.readQuoted(this.peekedQuote);
+		} else {
+			throw this.unexpected(token, BigDecimal.class);
+		}
+
+		try {
+			return new BigDecimal(value);
+		} catch (NumberFormatException e) {
+			throw new ValueDeserializationException(value, BigDecimal.class, "Not a valid BigDecimal", e);
+		}
+	}
+
+	@Override
+	public String nextString() throws ValueDeserializationException, IOException {
+		Token token = this.peek();
+
+		switch (token) {
+		case STRING:
+			this.peeked = null;
+			return this.readQuoted(this.peekedQuote);
+		case NUMBER:
+			this.peeked = null;
+			return this.readUnquoted();
+		case BOOLEAN:
+			this.peeked = null;
+			return Boolean.toString(this.peekedBoolean);
+		default:
+			throw this.unexpected(token, String.class);
+		}
+	}
+
+	@Override
+	public void skipValue() throws ValueDeserializationException, IOException {
+		int count = 0;
+
+		while (true) {
+			Token token = this.peek();
+
+			switch (token) {
+			case BEGIN_OBJECT:
+				this.beginObject();
+				count++;
+				break;
+			case BEGIN_ARRAY:
+				this.beginArray();
+				count++;
+				break;
+			case END_OBJECT:
+				this.endObject();
+				count--;
+				break;
+			case END_ARRAY:
+				this.endArray();
+				count--;
+				break;
+			case NAME:
+				this.peeked = null;
+				this.skipText(this.peekedQuote);
+				// the value of this field is part of the skipped value
+				continue;
+			case STRING:
+			case NUMBER:
+				this.peeked = null;
+				this.skipText(token == Token.STRING ? this.peekedQuote : 0);
+				break;
+			case BOOLEAN:
+			case NULL:
+				this.peeked = null;
+				break;
+			default:
+				throw this.syntaxError("Unexpected end of document");
+			}
+
+			if (count <= 0) {
+				return;
+			}
+		}
+	}
+
+	private void expect(Token expected) throws ValueDeserializationException, IOException {
+		Token token = this.peek();
+
+		if (token != expected) {
+			throw new ValueDeserializationException(token, Token.class, "Expected " + expected + " but was " + token + " at offset " + this.position());
+		}
+
+		this.peeked = null;
+	}
+
+	private void push(int scope) {
+		if (this.depth == this.scopes.length) {
+			this.scopes = Arrays.copyOf(this.scopes, this.depth * 2);
+		}
+
+		this.scopes[this.depth++] = scope;
+	}
+
+	private int read() throws IOException {
+		if (this.pos == this.limit && !this.fill()) {
+			return -1;
+		}
+
+		return this.buffer[this.pos++];
+	}
+
+	private boolean fill() throws IOException {
+		this.offset += this.limit;
+		this.pos = 0;
+		this.limit = Math.max(this.in.read(this.buffer, 0, this.buffer.length), 0);
+		return this.limit > 0;
+	}
+
+	private long position() {
+		return this.offset + this.pos;
+	}
+
+	private int nextNonWhitespace() throws ValueDeserializationException, IOException {
+		while (true) {
+			int c = this.read();
+
+			if (c == '/') {
+				int next = this.read();
+
+				if (next == '/') {
+					do {
+						c = this.read();
+					} while (c != '\n' && c != -1);
+				} else if (next == '*') {
+					int prev = 0;
+
+					while ((c = this.read()) != '/' || prev != '*') {
+						if (c == -1) throw this.syntaxError("Unterminated comment");
+						prev = c;
+					}
+				} else {
+					throw this.syntaxError("Unexpected character '/'");
+				}
+			} else if (c != ' ' && c != '\t' && c != '\n' && c != '\r') {
+				return c;
+			}
+		}
+	}
+
+	private static boolean isDelimiter(int c) {
+		switch (c) {
+		case ' ':
+		case '\t':
+		case '\n':
+		case '\r':
+		case ',':
+		case ':':
+		case '[':
+		case ']':
+		case '{':
+		case '}':
+		case '/':
+		case '"':
+		case '\'':
+			return true;
+		default:
+			return false;
+		}
+	}
+
+	private String readUnquoted() throws IOException {
+		this.text.setLength(0);
+		int c;
+
+		while ((c = this.read()) != -1) {
+			if (isDelimiter(c)) {
+				this.pos--;
+				break;
+			}
+
+			this.text.append((char) c);
+		}
+
+		return this.text.toString();
+	}
+
+	private String readQuoted(char quote) throws ValueDeserializationException, IOException {
+		this.text.setLength(0);
+
+		while (true) {
+			int c = this.read();
+
+			if (c == quote) {
+				return this.text.toString();
+			} else if (c == '\\') {
+				this.text.append(this.readEscape());
+			} else if (c == -1) {
+				throw this.syntaxError("Unterminated string");
+			} else {
+				this.text.append((char) c);
+			}
+		}
+	}
+
+	private char readEscape() throws ValueDeserializationException, IOException {
+		int c = this.read();
+
+		switch (c) {
+		case 'n':
+			return '\n';
+		case 't':
+			return '\t';
+		case 'r':
+			return '\r';
+		case 'b':
+			return '\b';
+		case 'f':
+			return '\f';
+		case 'u':
+			int value = 0;
+
+			for (int i = 0; i < 4; i++) {
+				int digit = Character.digit(this.read(), 16);
+				if (digit < 0) throw this.syntaxError("Invalid unicode escape");
+				value = (value << 4) | digit;
+			}
+
+			return (char) value;
+		case -1:
+			throw this.syntaxError("Unterminated string");
+		default:
+			// covers quotes, backslashes and slashes
+			return (char) c;
+		}
+	}
+
+	/**
+	 * Scans past a quoted or unquoted token without storing its content.
+	 */
+	private void skipText(char quote) throws ValueDeserializationException, IOException {
+		int c;
+
+		if (quote == 0) {
+			while ((c = this.read()) != -1) {
+				if (isDelimiter(c)) {
+					this.pos--;
+					return;
+				}
+			}
+
+			return;
+		}
+
+		while ((c = this.read()) != quote) {
+			if (c == -1) throw this.syntaxError("Unterminated string");
+			if (c == '\\') this.read();
+		}
+	}
+
+	private ValueDeserializationException unexpected(Token token, Class<?> targetType) {
+		return new ValueDeserializationException(token, targetType, "Unexpected " + token + " at offset " + this.position());
+	}
+
+	private ValueDeserializationException syntaxError(String message) {
+		return new ValueDeserializationException(null, Token.class, "Syntax error deserializing JSON: " + message + " at offset " + this.position());
+	}
+}
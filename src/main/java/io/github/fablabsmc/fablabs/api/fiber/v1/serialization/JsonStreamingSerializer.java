@@ -0,0 +1,278 @@
+package io.github.fablabsmc.fablabs.api.fiber.v1.serialization;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+import javax.annotation.Nullable;
+
+/**
+ * A {@link StreamingSerializer} writing JSON5 text.
+ *
+ * <p>The output is formatted the same way as the documents written by a {@link JanksonValueSerializer}
+ * with the same {@code minify} setting, and can be read back by it. Comments are only written
+ * when not minifying. Text is written to the underlying output as events are received;
+ * the only state kept is one entry per currently open object or array.
+ *
+ * <p>Instances are not thread safe, and should not be reused after the root object has been ended.
+ */
+public class JsonStreamingSerializer implements StreamingSerializer {
+	static final int DEFAULT_BUFFER_SIZE = 8192;
+
+	private final Writer out;
+	private final boolean minify;
+	/**
+	 * For each open structure, whether it is an array rather than an object.
+	 */
+	private boolean[] arrays = new boolean[8];
+	/**
+	 * For each open structure, whether it has received at least one element.
+	 */
+	private boolean[] nonEmpty = new boolean[8];
+	private int depth;
+	private boolean expectingValue;
+
+	/**
+	 * Creates a serializer writing UTF-8 encoded text to the given stream.
+	 *
+	 * <p>Output is buffered, and only guaranteed to reach {@code out} once {@link #flush()} is called.
+	 *
+	 * @param out    the stream to write to
+	 * @param minify whether to omit whitespace and comments
+	 */
+	public JsonStreamingSerializer(OutputStream out, boolean minify) {
+		this(out, new byte[DEFAULT_BUFFER_SIZE], minify);
+	}
+
+	/**
+	 * Creates a serializer writing UTF-8 encoded text to the given stream, through a caller-supplied buffer.
+	 *
+	 * <p>Text is encoded directly into {@code buffer}, which is written to {@code out} whenever it fills up.
+	 * Reusing the same buffer for successive serializers avoids allocating a new one each time,
+	 * as long as only one of them is in use at any given time.
+	 * Output is only guaranteed to reach {@code out} once {@link #flush()} is called.
+	 *
+	 * @param out    the stream to write to
+	 * @param buffer the buffer used to encode text, of at least 4 bytes
+	 * @param minify whether to omit whitespace and comments
+	 */
+	public JsonStreamingSerializer(OutputStream out, byte[] buffer, boolean minify) {
+		this(new Utf8Writer(out, buffer), minify);
+	}
+
+	/**
+	 * Creates a serializer writing text to the given writer.
+	 *
+	 * @param out    the writer to write to
+	 * @param minify whether to omit whitespace and comments
+	 */
+	public JsonStreamingSerializer(Writer out, boolean minify) {
+		this.out = out;
+		this.minify = minify;
+	}
+
+	@Override
+	public void beginObject() throws IOException {
+		this.beforeValue();
+		this.out.write('{');
+		this.push(false);
+	}
+
+	@Override
+	public void field(String name, @Nullable String comment) throws IOException {
+		if (this.depth == 0 || this.arrays[this.depth - 1] || this.expectingValue) {
+			throw new IllegalStateException("Fields can only be written directly within objects");
+		}
+
+		if (this.nonEmpty[this.depth - 1]) {
+			this.out.write(',');
+		}
+
+		this.nonEmpty[this.depth - 1] = true;
+
+		if (this.minify) {
+			this.out.write(' ');
+		} else {
+			this.out.write('\n');
+			this.indent(this.depth);
+
+			if (comment != null) {
+				this.writeComment(comment);
+			}
+		}
+
+		this.writeQuoted(name);
+		this.out.write(": ");
+		this.expectingValue = true;
+	}
+
+	@Override
+	public void endObject() throws IOException {
+		this.checkEnd(false);
+
+		if (this.nonEmpty[this.depth - 1] && !this.minify) {
+			this.out.write('\n');
+			this.indent(this.depth - 1);
+		} else {
+			this.out.write(' ');
+		}
+
+		this.out.write('}');
+		this.depth--;
+	}
+
+	@Override
+	public void beginArray() throws IOException {
+		this.beforeValue();
+		this.out.write('[');
+		this.push(true);
+	}
+
+	@Override
+	public void endArray() throws IOException {
+		this.checkEnd(true);
+		this.out.write(this.nonEmpty[this.depth - 1] ? " ]" : "]");
+		this.depth--;
+	}
+
+	@Override
+	public void writeBoolean(boolean value) throws IOException {
+		this.beforeValue();
+		this.out.write(value ? "true" : "false");
+	}
+
+	@Override
+	public void writeNumber(BigDecimal value) throws IOException {
+		this.beforeValue();
+		this.out.write(value.toPlainString());
+	}
+
+	@Override
+	public void writeNumber(long value) throws IOException {
+		this.beforeValue();
+		this.out.write(Long.toString(value));
+	}
+
+	@Override
+	public void writeString(String value) throws IOException {
+		this.beforeValue();
+		this.writeQuoted(value);
+	}
+
+	/**
+	 * Writes a value already formatted as JSON text.
+	 *
+	 * @param json the formatted value
+	 */
+	void writeRaw(String json) throws IOException {
+		this.beforeValue();
+		this.out.write(json);
+	}
+
+	@Override
+	public void flush() throws IOException {
+		this.out.flush();
+	}
+
+	private void beforeValue() throws IOException {
+		if (this.depth == 0) {
+			return;
+		}
+
+		if (this.arrays[this.depth - 1]) {
+			this.out.write(this.nonEmpty[this.depth - 1] ? ", " : " ");
+			this.nonEmpty[this.depth - 1] = true;
+		} else if (this.expectingValue) {
+			this.expectingValue = false;
+		} else {
+			throw new IllegalStateException("Values within objects must be preceded by a field");
+		}
+	}
+
+	private void push(boolean array) {
+		if (this.depth == this.arrays.length) {
+			this.arrays = Arrays.copyOf(this.arrays, this.depth * 2);
+			this.nonEmpty = Arrays.copyOf(this.nonEmpty, this.depth * 2);
+		}
+
+		this.arrays[this.depth] = array;
+		this.nonEmpty[this.depth] = false;
+		this.depth++;
+	}
+
+	private void checkEnd(boolean array) {
+		if (this.depth == 0 || this.arrays[this.depth - 1] != array || this.expectingValue) {
+			throw new IllegalStateException("No " + (array ? "array" : "object") + " to end");
+		}
+	}
+
+	private void indent(int depth) throws IOException {
+		for (int i = 0; i < depth; i++) {
+			this.out.write('\t');
+		}
+	}
+
+	private void writeComment(String comment) throws IOException {
+		if (comment.contains("\n")) {
+			String[] lines = comment.split("\n");
+			this.out.write("/* ");
+
+			for (int i = 0; i < lines.length; i++) {
+				if (i != 0) this.out.write("   ");
+				this.out.write(lines[i]);
+				this.out.write('\n');
+				this.indent(this.depth);
+			}
+
+			this.out.write("*/");
+		} else {
+			this.out.write("// ");
+			this.out.write(comment);
+		}
+
+		this.out.write('\n');
+		this.indent(this.depth);
+	}
+
+	private void writeQuoted(String value) throws IOException {
+		this.out.write('"');
+
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+
+			switch (c) {
+			case '"':
+				this.out.write("\\\"");
+				break;
+			case '\\':
+				this.out.write("\\\\");
+				break;
+			case '\n':
+				this.out.write("\\n");
+				break;
+			case '\r':
+				this.out.write("\\r");
+				break;
+			case '\t':
+				this.out.write("\\t");
+				break;
+			case '\b':
+				this.out.write("\\b");
+				break;
+			case '\f':
+				this.out.write("\\f");
+				break;
+			default:
+				if (c < 0x20) {
+					this.out.write(String.format("\\u%04x", (int) c));
+				} else {
+					this.out.write(c);
+				}
+			}
+		}
+
+		this.out.write('"');
+	}
+}
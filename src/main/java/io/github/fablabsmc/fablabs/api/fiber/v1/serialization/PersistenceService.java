@@ -0,0 +1,248 @@
+package io.github.fablabsmc.fablabs.api.fiber.v1.serialization;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.annotation.Nullable;
+
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigBranch;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigSnapshot;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ListenerHandle;
+
+/**
+ * Writes a config tree to a file in the background whenever its values change.
+ *
+ * <p>Changes are coalesced: the tree is written once no change happened for a quiet period,
+ * or once the oldest unwritten change is older than a maximum latency, whichever comes first.
+ * Threads changing the tree only record the time of the change and possibly schedule a task;
+ * they never wait for the file to be written.
+ *
+ * <p>The tree is written by a single background thread. Each write first takes a {@linkplain ConfigSnapshot snapshot}
+ * of the tree, then {@linkplain FiberSerialization#serialize(io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigTree, ConfigSnapshot, OutputStream, ValueSerializer) serializes}
+ * that snapshot. Only taking the snapshot holds the tree's commit lock; the file is written outside of it.
+ * The file therefore holds either none or all of the values of a {@linkplain io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigTransaction transaction},
+ * and changes made during a write are picked up by the next one, so the file converges to the tree's values once changes stop.
+ *
+ * <p>The service keeps track of the last snapshot it wrote, and skips writes that would not change the file.
+ * It does not read nor clear {@linkplain io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigNode#isDirty() dirty flags},
+ * which stay available to other consumers.
+ *
+ * <p>Data is first written to a temporary file next to the target, then moved over the target, atomically if the file system allows it.
+ * Readers of the target file therefore never observe a partially written document.
+ *
+ * <p>Pending changes are written when the service is {@linkplain #close() closed}, and when the JVM shuts down.
+ */
+public final class PersistenceService implements Closeable {
+	private final ConfigBranch tree;
+	private final Path file;
+	private final Path tempFile;
+	private final TreeWriter writer;
+	private final long quietPeriod;
+	private final long maxLatency;
+	private final ScheduledExecutorService executor;
+	private final ListenerHandle listener;
+	private final Thread shutdownHook;
+	private final Object writeLock = new Object();
+	/**
+	 * Whether changes happened since the tree was last written.
+	 */
+	private final AtomicBoolean pending = new AtomicBoolean();
+	/**
+	 * Whether a write task is scheduled.
+	 */
+	private final AtomicBoolean scheduled = new AtomicBoolean();
+	private volatile long firstChange;
+	private volatile long lastChange;
+	/**
+	 * The last snapshot written to the file, guarded by {@link #writeLock}.
+	 */
+	@Nullable
+	private ConfigSnapshot written;
+	@Nullable
+	private volatile Exception lastFailure;
+
+	private PersistenceService(ConfigBranch tree, Path file, TreeWriter writer, long quietPeriod, long maxLatency) {
+		this.tree = tree;
+		this.file = file;
+		this.tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+		this.writer = writer;
+		this.quietPeriod = quietPeriod;
+		this.maxLatency = maxLatency;
+		this.executor = Executors.newSingleThreadScheduledExecutor(r -> {
+			Thread thread = new Thread(r, "Fiber persistence (" + file.getFileName() + ")");
+			// pending changes are written by the shutdown hook
+			thread.setDaemon(true);
+			return thread;
+		});
+		this.shutdownHook = new Thread(() -> {
+			try {
+				this.flush();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}, "Fiber persistence shutdown (" + file.getFileName() + ")");
+		this.listener = tree.addSubtreeListener(changed -> this.onChange());
+		Runtime.getRuntime().addShutdownHook(this.shutdownHook);
+	}
+
+	/**
+	 * Starts writing a config tree to a file whenever its values change.
+	 *
+	 * @param tree        the tree to persist
+	 * @param file        the file to write to
+	 * @param ctx         the serializer used to write the tree
+	 * @param quietPeriod how long to wait after the last change before writing
+	 * @param maxLatency  the longest time a change can wait before being written, at least {@code quietPeriod}
+	 * @param unit        the unit of {@code quietPeriod} and {@code maxLatency}
+	 * @return a running persistence service
+	 * @throws IllegalArgumentException if {@code quietPeriod} is negative or {@code maxLatency} is lower than {@code quietPeriod}
+	 */
+	public static <A, T> PersistenceService start(ConfigBranch tree, Path file, ValueSerializer<A, T> ctx, long quietPeriod, long maxLatency, TimeUnit unit) {
+		if (quietPeriod < 0 || maxLatency < quietPeriod) {
+			throw new IllegalArgumentException("Invalid delays: quiet period " + quietPeriod + ", max latency " + maxLatency);
+		}
+
+		TreeWriter writer = (snapshot, out) -> FiberSerialization.serialize(tree, snapshot, out, ctx);
+		return new PersistenceService(tree, file, writer, unit.toNanos(quietPeriod), unit.toNanos(maxLatency));
+	}
+
+	private void onChange() {
+		long now = System.nanoTime();
+		this.lastChange = now;
+		this.pending.set(true);
+
+		if (!this.scheduled.get() && this.scheduled.compareAndSet(false, true)) {
+			this.firstChange = now;
+			this.schedule(this.quietPeriod);
+		}
+	}
+
+	private void schedule(long delay) {
+		try {
+			this.executor.schedule(this::tick, delay, TimeUnit.NANOSECONDS);
+		} catch (RejectedExecutionException e) {
+			// closed, close() writes the remaining changes
+		}
+	}
+
+	private void tick() {
+		long now = System.nanoTime();
+		long due = Math.min(this.lastChange + this.quietPeriod, this.firstChange + this.maxLatency);
+
+		if (due - now > 0) {
+			this.schedule(due - now);
+			return;
+		}
+
+		// changes from now on schedule a new write
+		this.scheduled.set(false);
+
+		try {
+			this.flush();
+		} catch (IOException | RuntimeException e) {
+			// flush() already recorded the failure and kept the changes pending, retry later
+			if (this.scheduled.compareAndSet(false, true)) {
+				this.firstChange = System.nanoTime();
+				this.schedule(this.maxLatency);
+			}
+		}
+	}
+
+	/**
+	 * Writes pending changes immediately, on the calling thread.
+	 *
+	 * <p>This method does nothing if no change happened since the tree was last written.
+	 *
+	 * @throws IOException if an IO error occurs while writing. The changes are kept pending.
+	 * @throws RuntimeException if the tree cannot be serialized. The changes are kept pending.
+	 */
+	public void flush() throws IOException {
+		synchronized (this.writeLock) {
+			if (!this.pending.getAndSet(false)) {
+				return;
+			}
+
+			try {
+				this.write();
+				this.lastFailure = null;
+			} catch (IOException | RuntimeException e) {
+				this.pending.set(true);
+				this.lastFailure = e;
+				throw e;
+			}
+		}
+	}
+
+	private void write() throws IOException {
+		// holds the commit lock, unlike the IO below
+		ConfigSnapshot snapshot = ConfigSnapshot.of(this.tree, this.written);
+
+		if (snapshot == this.written) {
+			// changed back to the values already written
+			return;
+		}
+
+		try (FileOutputStream fos = new FileOutputStream(this.tempFile.toFile()); OutputStream out = new BufferedOutputStream(fos)) {
+			this.writer.write(snapshot, out);
+			out.flush();
+			fos.getFD().sync();
+		}
+
+		try {
+			Files.move(this.tempFile, this.file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		} catch (AtomicMoveNotSupportedException e) {
+			Files.move(this.tempFile, this.file, StandardCopyOption.REPLACE_EXISTING);
+		}
+
+		this.written = snapshot;
+	}
+
+	/**
+	 * Returns the exception thrown by the last attempt to write the tree, if it failed.
+	 *
+	 * <p>Failed writes are retried after the maximum latency, or when the service is flushed.
+	 *
+	 * @return the last write failure, or {@code null} if the last write succeeded
+	 */
+	@Nullable
+	public Exception getLastFailure() {
+		return this.lastFailure;
+	}
+
+	/**
+	 * Stops watching the tree, then writes pending changes.
+	 *
+	 * @throws IOException if an IO error occurs while writing
+	 */
+	@Override
+	public void close() throws IOException {
+		this.listener.remove();
+		this.executor.shutdownNow();
+
+		try {
+			Runtime.getRuntime().removeShutdownHook(this.shutdownHook);
+		} catch (IllegalStateException e) {
+			// already shutting down, the hook writes pending changes
+		}
+
+		this.flush();
+	}
+
+	@FunctionalInterface
+	private interface TreeWriter {
+		void write(ConfigSnapshot snapshot, OutputStream out) throws IOException;
+	}
+}
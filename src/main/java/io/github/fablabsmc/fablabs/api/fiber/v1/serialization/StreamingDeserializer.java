@@ -0,0 +1,140 @@
+package io.github.fablabsmc.fablabs.api.fiber.v1.serialization;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+import io.github.fablabsmc.fablabs.api.fiber.v1.exception.ValueDeserializationException;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.SerializableType;
+
+/**
+ * A pull-style reader of serialized config data.
+ *
+ * <p>Unlike a {@link ValueSerializer}, which loads a whole document before it can be read,
+ * a {@code StreamingDeserializer} exposes its input as a sequence of tokens, read one at a time.
+ * Values that are not needed can be skipped with {@link #skipValue()}, which should not
+ * build any representation of the skipped data.
+ *
+ * <p>Methods reading a token throw a {@link ValueDeserializationException} if the next token
+ * is not of the expected kind, or if the input is malformed.
+ *
+ * @see FiberSerialization#deserialize(io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigTree, StreamingDeserializer)
+ * @see SerializableType#readValue(StreamingDeserializer)
+ */
+public interface StreamingDeserializer {
+	/**
+	 * Returns the kind of the next token, without consuming it.
+	 *
+	 * @return the kind of the next token
+	 * @throws ValueDeserializationException If the input is malformed.
+	 * @throws IOException                   If an IO error occurs.
+	 */
+	Token peek() throws ValueDeserializationException, IOException;
+
+	/**
+	 * Returns {@code true} if the current object or array has more elements.
+	 *
+	 * @return {@code true} if the next token is neither the end of a structure nor the end of the input
+	 * @throws ValueDeserializationException If the input is malformed.
+	 * @throws IOException                   If an IO error occurs.
+	 */
+	default boolean hasNext() throws ValueDeserializationException, IOException {
+		Token next = this.peek();
+		return next != Token.END_OBJECT && next != Token.END_ARRAY && next != Token.END_DOCUMENT;
+	}
+
+	/**
+	 * Consumes the beginning of an object.
+	 *
+	 * @throws ValueDeserializationException If the next token is not {@link Token#BEGIN_OBJECT}.
+	 * @throws IOException                   If an IO error occurs.
+	 */
+	void beginObject() throws ValueDeserializationException, IOException;
+
+	/**
+	 * Consumes the end of the current object.
+	 *
+	 * @throws ValueDeserializationException If the next token is not {@link Token#END_OBJECT}.
+	 * @throws IOException                   If an IO error occurs.
+	 */
+	void endObject() throws ValueDeserializationException, IOException;
+
+	/**
+	 * Consumes the beginning of an array.
+	 *
+	 * @throws ValueDeserializationException If the next token is not {@link Token#BEGIN_ARRAY}.
+	 * @throws IOException                   If an IO error occurs.
+	 */
+	void beginArray() throws ValueDeserializationException, IOException;
+
+	/**
+	 * Consumes the end of the current array.
+	 *
+	 * @throws ValueDeserializationException If the next token is not {@link Token#END_ARRAY}.
+	 * @throws IOException                   If an IO error occurs.
+	 */
+	void endArray() throws ValueDeserializationException, IOException;
+
+	/**
+	 * Consumes the key of the next field of the current object.
+	 *
+	 * @return the key of the field
+	 * @throws ValueDeserializationException If the next token is not {@link Token#NAME}.
+	 * @throws IOException                   If an IO error occurs.
+	 */
+	String nextName() throws ValueDeserializationException, IOException;
+
+	/**
+	 * Consumes a boolean value.
+	 *
+	 * @return the boolean value
+	 * @throws ValueDeserializationException If the next token is not {@link Token#BOOLEAN}.
+	 * @throws IOException                   If an IO error occurs.
+	 */
+	boolean nextBoolean() throws ValueDeserializationException, IOException;
+
+	/**
+	 * Consumes a numeric value.
+	 *
+	 * <p>Implementations may also accept strings representing a number.
+	 *
+	 * @return the numeric value
+	 * @throws ValueDeserializationException If the next token is not a valid number.
+	 * @throws IOException                   If an IO error occurs.
+	 */
+	BigDecimal nextNumber() throws ValueDeserializationException, IOException;
+
+	/**
+	 * Consumes a string value.
+	 *
+	 * <p>Implementations may also accept other scalar values, returning their textual representation.
+	 *
+	 * @return the string value
+	 * @throws ValueDeserializationException If the next token is not {@link Token#STRING}.
+	 * @throws IOException                   If an IO error occurs.
+	 */
+	String nextString() throws ValueDeserializationException, IOException;
+
+	/**
+	 * Skips the next value, including all of its content if it is an object or an array.
+	 *
+	 * @throws ValueDeserializationException If the input is malformed.
+	 * @throws IOException                   If an IO error occurs.
+	 */
+	void skipValue() throws ValueDeserializationException, IOException;
+
+	/**
+	 * The kinds of tokens found in serialized data.
+	 */
+	enum Token {
+		BEGIN_OBJECT,
+		END_OBJECT,
+		BEGIN_ARRAY,
+		END_ARRAY,
+		NAME,
+		BOOLEAN,
+		NUMBER,
+		STRING,
+		NULL,
+		END_DOCUMENT
+	}
+}
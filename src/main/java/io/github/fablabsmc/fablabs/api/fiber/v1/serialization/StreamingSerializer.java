@@ -0,0 +1,99 @@
+package io.github.fablabsmc.fablabs.api.fiber.v1.serialization;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.math.BigDecimal;
+
+import javax.annotation.Nullable;
+
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.SerializableType;
+
+/**
+ * A push-style writer of serialized config data.
+ *
+ * <p>Unlike a {@link ValueSerializer}, which builds an intermediate document before writing it,
+ * a {@code StreamingSerializer} receives a sequence of events and is expected to write them
+ * out as they come. Implementations should only need memory proportional to the nesting depth
+ * of the written data.
+ *
+ * <p>Events must form a well nested structure: every {@link #beginObject()} is matched by an {@link #endObject()},
+ * every {@link #beginArray()} by an {@link #endArray()}, and within an object, every value is preceded
+ * by a {@link #field(String, String)} event. The root value is always an object.
+ *
+ * @see FiberSerialization#serialize(io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigTree, StreamingSerializer)
+ * @see SerializableType#writeValue(Object, StreamingSerializer)
+ */
+public interface StreamingSerializer extends Flushable {
+	/**
+	 * Begins an object. Subsequent values are the fields of this object, until the matching {@link #endObject()}.
+	 *
+	 * @throws IOException If an IO error occurs.
+	 */
+	void beginObject() throws IOException;
+
+	/**
+	 * Begins a field of the current object. The next value or nested structure is the value of that field.
+	 *
+	 * @param name    The key of the field.
+	 * @param comment An optional comment associated with the field.
+	 * @throws IOException If an IO error occurs.
+	 */
+	void field(String name, @Nullable String comment) throws IOException;
+
+	/**
+	 * Ends the current object.
+	 *
+	 * @throws IOException If an IO error occurs.
+	 */
+	void endObject() throws IOException;
+
+	/**
+	 * Begins an array. Subsequent values are the elements of this array, until the matching {@link #endArray()}.
+	 *
+	 * @throws IOException If an IO error occurs.
+	 */
+	void beginArray() throws IOException;
+
+	/**
+	 * Ends the current array.
+	 *
+	 * @throws IOException If an IO error occurs.
+	 */
+	void endArray() throws IOException;
+
+	/**
+	 * Writes a boolean value.
+	 *
+	 * @param value The boolean value.
+	 * @throws IOException If an IO error occurs.
+	 */
+	void writeBoolean(boolean value) throws IOException;
+
+	/**
+	 * Writes a numeric value.
+	 *
+	 * @param value The numeric value.
+	 * @throws IOException If an IO error occurs.
+	 */
+	void writeNumber(BigDecimal value) throws IOException;
+
+	/**
+	 * Writes an integral numeric value.
+	 *
+	 * <p>The default implementation delegates to {@link #writeNumber(BigDecimal)}.
+	 *
+	 * @param value The numeric value.
+	 * @throws IOException If an IO error occurs.
+	 */
+	default void writeNumber(long value) throws IOException {
+		this.writeNumber(BigDecimal.valueOf(value));
+	}
+
+	/**
+	 * Writes a string value.
+	 *
+	 * @param value The string value.
+	 * @throws IOException If an IO error occurs.
+	 */
+	void writeString(String value) throws IOException;
+}
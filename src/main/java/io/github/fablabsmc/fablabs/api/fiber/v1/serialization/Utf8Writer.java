@@ -0,0 +1,125 @@
+package io.github.fablabsmc.fablabs.api.fiber.v1.serialization;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+
+/**
+ * A writer encoding characters as UTF-8 into a fixed byte buffer, which is drained to an output stream when full.
+ *
+ * <p>Unlike an {@link java.io.OutputStreamWriter}, the buffer is supplied by the caller and can be reused
+ * across writers. Malformed surrogate sequences are replaced with {@code '?'}, like {@link String#getBytes}.
+ */
+final class Utf8Writer extends Writer {
+	private static final int MIN_BUFFER_SIZE = 4;
+
+	private final OutputStream out;
+	private final byte[] buffer;
+	private int count;
+	/**
+	 * A high surrogate waiting for the next character, or {@code 0}.
+	 */
+	private char highSurrogate;
+
+	/**
+	 * @param out    the stream to write encoded text to
+	 * @param buffer the buffer to encode into, of at least 4 bytes. Its previous content is ignored.
+	 */
+	Utf8Writer(OutputStream out, byte[] buffer) {
+		if (buffer.length < MIN_BUFFER_SIZE) {
+			throw new IllegalArgumentException("Buffer must hold at least " + MIN_BUFFER_SIZE + " bytes");
+		}
+
+		this.out = out;
+		this.buffer = buffer;
+	}
+
+	@Override
+	public void write(int c) throws IOException {
+		this.encode((char) c);
+	}
+
+	@Override
+	public void write(char[] cbuf, int off, int len) throws IOException {
+		for (int i = off; i < off + len; i++) {
+			this.encode(cbuf[i]);
+		}
+	}
+
+	@Override
+	public void write(String str, int off, int len) throws IOException {
+		for (int i = off; i < off + len; i++) {
+			this.encode(str.charAt(i));
+		}
+	}
+
+	private void encode(char c) throws IOException {
+		if (this.buffer.length - this.count < MIN_BUFFER_SIZE) {
+			this.drain();
+		}
+
+		byte[] buf = this.buffer;
+
+		if (this.highSurrogate != 0) {
+			char high = this.highSurrogate;
+			this.highSurrogate = 0;
+
+			if (Character.isLowSurrogate(c)) {
+				int cp = Character.toCodePoint(high, c);
+				buf[this.count++] = (byte) (0xF0 | (cp >> 18));
+				buf[this.count++] = (byte) (0x80 | ((cp >> 12) & 0x3F));
+				buf[this.count++] = (byte) (0x80 | ((cp >> 6) & 0x3F));
+				buf[this.count++] = (byte) (0x80 | (cp & 0x3F));
+				return;
+			}
+
+			buf[this.count++] = '?';
+			this.encode(c);
+			return;
+		}
+
+		if (c < 0x80) {
+			buf[this.count++] = (byte) c;
+		} else if (c < 0x800) {
+			buf[this.count++] = (byte) (0xC0 | (c >> 6));
+			buf[this.count++] = (byte) (0x80 | (c & 0x3F));
+		} else if (Character.isHighSurrogate(c)) {
+			this.highSurrogate = c;
+		} else if (Character.isLowSurrogate(c)) {
+			buf[this.count++] = '?';
+		} else {
+			buf[this.count++] = (byte) (0xE0 | (c >> 12));
+			buf[this.count++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+			buf[this.count++] = (byte) (0x80 | (c & 0x3F));
+		}
+	}
+
+	private void drain() throws IOException {
+		if (this.count > 0) {
+			this.out.write(this.buffer, 0, this.count);
+			this.count = 0;
+		}
+	}
+
+	/**
+	 * Writes all buffered bytes to the underlying stream, then flushes it.
+	 *
+	 * <p>A trailing high surrogate is kept until the next character, or until this writer is closed.
+	 */
+	@Override
+	public void flush() throws IOException {
+		this.drain();
+		this.out.flush();
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (this.highSurrogate != 0) {
+			this.highSurrogate = 0;
+			this.encode('?');
+		}
+
+		this.drain();
+		this.out.close();
+	}
+}
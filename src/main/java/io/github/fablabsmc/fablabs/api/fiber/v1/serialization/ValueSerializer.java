@@ -16,6 +16,7 @@ import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.DecimalSerializableT
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.EnumSerializableType;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.ListSerializableType;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.MapSerializableType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.NumericArrayList;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.RecordSerializableType;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.SerializableType;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.StringSerializableType;
@@ -135,6 +136,36 @@ public interface ValueSerializer<A, T> {
 	 */
 	<E> List<E> deserializeList(A elem, ListSerializableType<E> type) throws ValueDeserializationException;
 
+	/**
+	 * Converts a list of numbers backed by a primitive array into the serialized form.
+	 *
+	 * <p>Serializers which can represent numbers without going through {@link BigDecimal}
+	 * may override this method to read the backing values directly.
+	 * The default implementation delegates to {@link #serializeList(List, ListSerializableType)}.
+	 *
+	 * @param value The list value.
+	 * @param type  The type of the list value, with {@link DecimalSerializableType} elements.
+	 */
+	default A serializeNumericArray(NumericArrayList value, ListSerializableType<BigDecimal> type) {
+		return this.serializeList(value, type);
+	}
+
+	/**
+	 * Converts the serialized form to a list of numbers.
+	 *
+	 * <p>Serializers may override this method to return a {@link NumericArrayList},
+	 * avoiding the creation of a {@link BigDecimal} for each element.
+	 * The default implementation delegates to {@link #deserializeList(Object, ListSerializableType)}.
+	 *
+	 * @param elem The serialized form.
+	 * @param type The type of the list value, with {@link DecimalSerializableType} elements.
+	 * @throws ValueDeserializationException If the serialized form cannot be converted into an object of
+	 *                                       the correct platform type.
+	 */
+	default List<BigDecimal> deserializeNumericArray(A elem, ListSerializableType<BigDecimal> type) throws ValueDeserializationException {
+		return this.deserializeList(elem, type);
+	}
+
 	/**
 	 * Converts a map into the serialized form.
 	 *
@@ -0,0 +1,40 @@
+package io.github.fablabsmc.fablabs.api.fiber.v1.tree;
+
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.derived.BooleanConfigType;
+import io.github.fablabsmc.fablabs.impl.fiber.tree.BooleanPropertyMirrorImpl;
+
+/**
+ * A {@code PropertyMirror} for boolean values, with unboxed accessors.
+ *
+ * <p>When mirroring a {@link ConfigLeaf}, the current value is kept in a primitive field
+ * updated whenever the leaf changes, so that {@link #getBoolean()} is a single field read.
+ *
+ * @see NumberPropertyMirror
+ */
+public interface BooleanPropertyMirror extends PropertyMirror<Boolean> {
+	/**
+	 * Creates a new {@link BooleanPropertyMirror} that can mirror values of the given {@link BooleanConfigType}.
+	 *
+	 * @param converter The BooleanConfigType of the mirrored values.
+	 */
+	static BooleanPropertyMirror create(BooleanConfigType<Boolean> converter) {
+		return new BooleanPropertyMirrorImpl(converter);
+	}
+
+	/**
+	 * Returns the mirrored value.
+	 */
+	boolean getBoolean();
+
+	/**
+	 * Sets the mirrored value.
+	 *
+	 * @param value the new value
+	 * @return {@code true} if the mirrored property accepted the value
+	 * @see Property#setValue(Object)
+	 */
+	boolean setBoolean(boolean value);
+
+	@Override
+	BooleanConfigType<Boolean> getMirroredType();
+}
@@ -0,0 +1,108 @@
+package io.github.fablabsmc.fablabs.api.fiber.v1.tree;
+
+import java.util.Optional;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import io.github.fablabsmc.fablabs.api.fiber.v1.exception.FiberQueryException;
+
+/**
+ * A {@link ConfigQuery} bound to a specific config tree.
+ *
+ * <p>A bound query caches the node it resolves to. The cached node is returned as long as the
+ * {@linkplain ConfigTree#getStructureVersion() structure version} of the tree is unchanged,
+ * making repeated runs nearly free. If the tree does not track its structure version,
+ * every run performs a full lookup.
+ *
+ * <p>Bound queries can be shared between threads.
+ *
+ * @param <T> the type of queried tree nodes
+ * @see ConfigQuery#bind(ConfigTree)
+ */
+public final class BoundConfigQuery<T extends ConfigNode> {
+	private final ConfigQuery<T> query;
+	private final ConfigTree tree;
+	@Nullable
+	private volatile Resolution<T> resolution;
+
+	BoundConfigQuery(ConfigQuery<T> query, ConfigTree tree) {
+		this.query = query;
+		this.tree = tree;
+	}
+
+	/**
+	 * Returns the query run by this handle.
+	 *
+	 * @return the underlying query
+	 */
+	public ConfigQuery<T> getQuery() {
+		return this.query;
+	}
+
+	/**
+	 * Returns the tree this handle runs its query on.
+	 *
+	 * @return the bound tree
+	 */
+	public ConfigTree getTree() {
+		return this.tree;
+	}
+
+	/**
+	 * Searches the bound tree for a node satisfying the query.
+	 * If none is found, {@code Optional.empty()} is returned.
+	 *
+	 * @return an {@code Optional} describing the queried node,
+	 * or {@code Optional.empty()}.
+	 * @see ConfigQuery#search(ConfigTree)
+	 */
+	public Optional<T> search() {
+		try {
+			return Optional.of(this.run());
+		} catch (FiberQueryException e) {
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * Runs the query on the bound tree, or returns the previous result if the tree's structure did not change since.
+	 *
+	 * @return the queried node, with the right path and type
+	 * @throws FiberQueryException if the query's parameters do not match the config's structure
+	 * @see ConfigQuery#run(ConfigTree)
+	 */
+	@Nonnull
+	public T run() throws FiberQueryException {
+		// read the version first, so that concurrent modifications invalidate the result
+		long version = this.tree.getStructureVersion();
+		Resolution<T> resolution = this.resolution;
+
+		if (resolution != null && resolution.version == version) {
+			return resolution.node;
+		}
+
+		T node = this.query.run(this.tree);
+
+		if (version >= 0) {
+			this.resolution = new Resolution<>(node, version);
+		}
+
+		return node;
+	}
+
+	@Override
+	public String toString() {
+		return this.query + " on " + this.tree;
+	}
+
+	private static final class Resolution<T> {
+		final T node;
+		final long version;
+
+		Resolution(T node, long version) {
+			this.node = node;
+			this.version = version;
+		}
+	}
+}
@@ -1,5 +1,8 @@
 package io.github.fablabsmc.fablabs.api.fiber.v1.tree;
 
+import java.util.Set;
+import java.util.function.Consumer;
+
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
@@ -61,4 +64,17 @@ public interface ConfigBranch extends ConfigTree, ConfigNode, Commentable {
 	default boolean isSerializedSeparately() {
 		return false;
 	}
+
+	/**
+	 * Registers a listener for value changes in this branch's subtree.
+	 *
+	 * <p>The listener receives the set of descendant leaves which value changed. A change made through
+	 * {@link ConfigLeaf#setValue(Object)} results in a notification for that single leaf, while a
+	 * {@linkplain ConfigTransaction transaction} results in a single notification for every leaf it changed
+	 * in this subtree. The listener is called after the listeners of the changed leaves.
+	 *
+	 * @param listener the listener to add
+	 * @return a handle that can be used to remove the listener
+	 */
+	ListenerHandle addSubtreeListener(Consumer<Set<ConfigLeaf<?>>> listener);
 }
@@ -72,14 +72,42 @@ public interface ConfigLeaf<T> extends ConfigNode, Property<T>, Commentable {
 	 * Returns the listener for this item.
 	 *
 	 * <p>When this item's value changes, the consumer will be called with the old value as first argument and the new value as second argument.
+	 * The returned listener notifies every listener currently registered on this item.
 	 *
 	 * @return the listener
 	 */
 	@Nonnull
 	BiConsumer<T, T> getListener();
 
+	/**
+	 * Registers a listener for changes to this item's value.
+	 *
+	 * <p>Listeners are called in registration order, with the old value as first argument
+	 * and the new value as second argument. Registering a listener while this item is
+	 * notifying its listeners is safe; the new listener is only called for subsequent changes.
+	 *
+	 * @param listener the listener to add
+	 * @see #addChangeListenerHandle(BiConsumer)
+	 */
 	void addChangeListener(BiConsumer<T, T> listener);
 
+	/**
+	 * Registers a listener for changes to this item's value, and returns a handle that can be used to remove it.
+	 *
+	 * <p>Listeners are called as with {@link #addChangeListener(BiConsumer)}.
+	 *
+	 * <p>The default implementation delegates to {@link #addChangeListener(BiConsumer)}, and returns a handle
+	 * that cannot remove the listener: its {@link ListenerHandle#remove()} method always returns {@code false}.
+	 * Leaves created through Fiber's builders support removal.
+	 *
+	 * @param listener the listener to add
+	 * @return a handle that can be used to remove the listener
+	 */
+	default ListenerHandle addChangeListenerHandle(BiConsumer<T, T> listener) {
+		this.addChangeListener(listener);
+		return () -> false;
+	}
+
 	/**
 	 * Returns the default value for this item.
 	 *
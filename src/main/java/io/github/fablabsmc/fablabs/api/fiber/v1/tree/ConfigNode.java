@@ -82,6 +82,37 @@ public interface ConfigNode {
 	@Nullable
 	ConfigBranch getParent();
 
+	/**
+	 * Returns whether this node needs to be serialized again.
+	 *
+	 * <p>A leaf becomes dirty when its value is set, and a branch becomes dirty when one of its children
+	 * is added, removed or becomes dirty. Branches that are {@linkplain ConfigBranch#isSerializedSeparately() serialized separately}
+	 * do not make their ancestors dirty. Nodes are dirty when created.
+	 *
+	 * <p>Implementations that do not track changes always report themselves as dirty.
+	 *
+	 * @return {@code true} if this node changed since it was last {@linkplain #clearDirty() cleared}
+	 */
+	default boolean isDirty() {
+		return true;
+	}
+
+	/**
+	 * Marks this node as clean.
+	 *
+	 * <p>Clearing a branch also clears its descendants, except for branches {@linkplain ConfigBranch#isSerializedSeparately() serialized separately},
+	 * which track their changes on their own. After this method returns, any later change under this node makes it dirty again.
+	 *
+	 * <p>Callers persisting changes must clear a node before reading its value or visiting its children.
+	 * A concurrent change is then either observed by the read, or makes the node dirty again.
+	 *
+	 * @return {@code true} if this node was dirty
+	 * @see #isDirty()
+	 */
+	default boolean clearDirty() {
+		return true;
+	}
+
 	/**
 	 * Attaches this node to an existing branch.
 	 *
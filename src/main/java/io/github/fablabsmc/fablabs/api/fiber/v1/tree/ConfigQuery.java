@@ -67,7 +67,7 @@ public final class ConfigQuery<T extends ConfigNode> {
 
 	private ConfigQuery(Class<? super T> nodeType, @Nullable SerializableType<?> valueType, String first, String[] path) {
 		this.nodeType = nodeType;
-		this.valueType = valueType;
+		this.valueType = valueType == null ? null : SerializableType.intern(valueType);
 		this.path = new ArrayList<>();
 		this.path.add(first);
 		this.path.addAll(Arrays.asList(path));
@@ -106,6 +106,14 @@ public final class ConfigQuery<T extends ConfigNode> {
 	 */
 	@Nonnull
 	public T run(ConfigTree cfg) throws FiberQueryException {
+		ConfigNode found = cfg.lookupPath(this.path);
+
+		if (this.nodeType.isInstance(found) && (this.valueType == null || this.valueType.equals(((ConfigLeaf<?>) found).getConfigType()))) {
+			@SuppressWarnings("unchecked") T result = (T) found;
+			return result;
+		}
+
+		// walk the path again to find where it diverges from the tree
 		List<String> path = this.path;
 		ConfigTree branch = cfg;
 		int lastIndex = path.size() - 1;
@@ -119,6 +127,19 @@ public final class ConfigQuery<T extends ConfigNode> {
 		return result;
 	}
 
+	/**
+	 * Binds this query to a config tree.
+	 *
+	 * <p>The returned handle remembers the node found by the last successful run, and
+	 * only runs this query again after the tree's {@linkplain ConfigTree#getStructureVersion() structure} changed.
+	 *
+	 * @param cfg the config tree to run the query on
+	 * @return a handle running this query on {@code cfg}
+	 */
+	public BoundConfigQuery<T> bind(ConfigTree cfg) {
+		return new BoundConfigQuery<>(this, cfg);
+	}
+
 	private <N> N lookupChild(ConfigTree tree, String name, Class<N> nodeType, @Nullable SerializableType<?> valueType) throws FiberQueryException {
 		ConfigNode node = tree.lookup(name);
 
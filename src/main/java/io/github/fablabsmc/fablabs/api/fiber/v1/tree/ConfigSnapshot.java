@@ -0,0 +1,286 @@
+package io.github.fablabsmc.fablabs.api.fiber.v1.tree;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.SerializableType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.serialization.FiberSerialization;
+import io.github.fablabsmc.fablabs.impl.fiber.tree.ConfigBranchImpl;
+
+/**
+ * An immutable view of the values held by a {@link ConfigTree} at a given point in time.
+ *
+ * <p>Snapshots are persistent: a snapshot created from a {@linkplain #of(ConfigTree, ConfigSnapshot) previous version}
+ * reuses every entry and every sub-snapshot that did not change since that version. Taking a new snapshot
+ * of a mostly unchanged tree is therefore cheap, and unchanged subtrees share memory across versions.
+ *
+ * <p>A snapshot can be safely shared between threads. Publishing snapshots through an
+ * {@link java.util.concurrent.atomic.AtomicReference} lets readers see one coherent version of a
+ * config while another thread is reloading it. Leaves of the tree itself are updated one at a time,
+ * so only readers going through the published snapshot are guaranteed a coherent view.
+ *
+ * @see FiberSerialization#deserialize(ConfigTree, java.io.InputStream, io.github.fablabsmc.fablabs.api.fiber.v1.serialization.ValueSerializer, java.util.concurrent.atomic.AtomicReference)
+ * @see ConfigTransaction#commit(java.util.concurrent.atomic.AtomicReference)
+ */
+public final class ConfigSnapshot {
+	private static final ConfigSnapshot EMPTY = new ConfigSnapshot(Collections.emptyMap());
+
+	private final Map<String, Object> entries;
+
+	private ConfigSnapshot(Map<String, Object> entries) {
+		this.entries = entries;
+	}
+
+	/**
+	 * Takes a snapshot of the given tree.
+	 *
+	 * @param tree the tree to take a snapshot of
+	 * @return a snapshot of the tree's current values
+	 */
+	public static ConfigSnapshot of(ConfigTree tree) {
+		return of(tree, null);
+	}
+
+	/**
+	 * Takes a snapshot of the given tree, sharing unchanged parts with a previous snapshot.
+	 *
+	 * <p>If nothing changed since {@code previous} was taken, {@code previous} itself is returned.
+	 *
+	 * <p>The snapshot is taken while holding the lock used by {@linkplain ConfigTransaction transactions},
+	 * so it contains either none or all of the values of a committed transaction.
+	 *
+	 * @param tree     the tree to take a snapshot of
+	 * @param previous a previous snapshot of the same tree, or {@code null}
+	 * @return a snapshot of the tree's current values
+	 */
+	public static ConfigSnapshot of(ConfigTree tree, @Nullable ConfigSnapshot previous) {
+		synchronized (ConfigBranchImpl.getCommitLock(tree)) {
+			return capture(tree, previous);
+		}
+	}
+
+	private static ConfigSnapshot capture(ConfigTree tree, @Nullable ConfigSnapshot previous) {
+		Map<String, Object> entries = new LinkedHashMap<>();
+		Iterator<String> previousNames = previous == null ? null : previous.entries.keySet().iterator();
+		boolean changed = previous == null;
+
+		for (ConfigNode node : tree.getItems()) {
+			String name = node.getName();
+			Object previousEntry = previous == null ? null : previous.entries.get(name);
+			Object entry;
+
+			if (node instanceof ConfigTree) {
+				entry = capture((ConfigTree) node, previousEntry instanceof ConfigSnapshot ? (ConfigSnapshot) previousEntry : null);
+			} else if (node instanceof ConfigLeaf<?>) {
+				entry = Leaf.of((ConfigLeaf<?>) node, previousEntry instanceof Leaf ? (Leaf<?>) previousEntry : null);
+			} else {
+				continue;
+			}
+
+			if (!changed) {
+				changed = entry != previousEntry || !previousNames.hasNext() || !previousNames.next().equals(name);
+			}
+
+			entries.put(name, entry);
+		}
+
+		if (!changed && !previousNames.hasNext()) {
+			return previous;
+		}
+
+		return entries.isEmpty() ? EMPTY : new ConfigSnapshot(Collections.unmodifiableMap(entries));
+	}
+
+	/**
+	 * Creates a new version of a snapshot, in which the given leaves hold the given values.
+	 *
+	 * <p>Unlike {@link #of(ConfigTree, ConfigSnapshot)}, leaves that are not part of {@code changes}
+	 * keep the value they have in {@code previous}, so that values concurrently written to the tree
+	 * do not leak into the new version. Only nodes that do not appear in {@code previous} are read from the tree.
+	 * Subtrees holding none of the changed leaves are shared with {@code previous}.
+	 *
+	 * @param tree     the tree described by the snapshot
+	 * @param previous the snapshot to update, or {@code null} to read unchanged leaves from the tree
+	 * @param changes  the new values of the changed leaves, which must be descendants of {@code tree}
+	 * @return a snapshot of {@code tree} with the given changes
+	 */
+	public static ConfigSnapshot update(ConfigTree tree, @Nullable ConfigSnapshot previous, Map<? extends ConfigLeaf<?>, ?> changes) {
+		Set<ConfigTree> affected = Collections.newSetFromMap(new IdentityHashMap<>());
+
+		for (ConfigLeaf<?> leaf : changes.keySet()) {
+			// stops at the first branch already visited through another leaf
+			for (ConfigBranch branch = leaf.getParent(); branch != null && affected.add(branch); branch = branch.getParent()) {
+				if (branch == tree) break;
+			}
+		}
+
+		return update(tree, previous, changes, affected);
+	}
+
+	private static ConfigSnapshot update(ConfigTree tree, @Nullable ConfigSnapshot previous, Map<? extends ConfigLeaf<?>, ?> changes, Set<ConfigTree> affected) {
+		if (previous != null && !affected.contains(tree)) {
+			return previous;
+		}
+
+		Map<String, Object> entries = new LinkedHashMap<>();
+
+		for (ConfigNode node : tree.getItems()) {
+			String name = node.getName();
+			Object previousEntry = previous == null ? null : previous.entries.get(name);
+			Object entry;
+
+			if (node instanceof ConfigTree) {
+				entry = update((ConfigTree) node, previousEntry instanceof ConfigSnapshot ? (ConfigSnapshot) previousEntry : null, changes, affected);
+			} else if (node instanceof ConfigLeaf<?>) {
+				ConfigLeaf<?> leaf = (ConfigLeaf<?>) node;
+				Leaf<?> previousLeaf = previousEntry instanceof Leaf ? (Leaf<?>) previousEntry : null;
+
+				if (changes.containsKey(leaf)) {
+					entry = Leaf.of(leaf.getConfigType(), changes.get(leaf), previousLeaf);
+				} else if (previousLeaf != null) {
+					entry = previousLeaf;
+				} else {
+					entry = Leaf.of(leaf, null);
+				}
+			} else {
+				continue;
+			}
+
+			entries.put(name, entry);
+		}
+
+		return entries.isEmpty() ? EMPTY : new ConfigSnapshot(Collections.unmodifiableMap(entries));
+	}
+
+	/**
+	 * Returns the names of the direct children captured by this snapshot, in tree order.
+	 *
+	 * @return the names of this snapshot's entries
+	 */
+	@Nonnull
+	public Set<String> getNames() {
+		return this.entries.keySet();
+	}
+
+	/**
+	 * Returns the snapshot of a descendant branch.
+	 *
+	 * @param path the names of the successive branches leading to the wanted branch
+	 * @return the snapshot of the branch if found, otherwise {@code null}
+	 */
+	@Nullable
+	public ConfigSnapshot getBranch(String... path) {
+		ConfigSnapshot current = this;
+
+		for (String name : path) {
+			Object entry = current.entries.get(name);
+
+			if (!(entry instanceof ConfigSnapshot)) {
+				return null;
+			}
+
+			current = (ConfigSnapshot) entry;
+		}
+
+		return current;
+	}
+
+	/**
+	 * Returns the value a descendant leaf had when this snapshot was taken.
+	 *
+	 * <p>A value is only returned if the leaf's type is {@linkplain SerializableType#isAssignableFrom(SerializableType) assignable}
+	 * to the given {@code type}, similarly to {@link ConfigTree#lookupLeaf(String, SerializableType)}.
+	 *
+	 * @param type the type of value to look for
+	 * @param path the path to the leaf, the last element being the leaf's name
+	 * @param <T>  the type of value to look for
+	 * @return the value of the leaf if found
+	 */
+	public <T> Optional<T> getValue(SerializableType<T> type, String... path) {
+		Leaf<?> leaf = this.findLeaf(path);
+
+		if (leaf != null && type.isAssignableFrom(leaf.type)) {
+			@SuppressWarnings("unchecked") T value = (T) leaf.value;
+			return Optional.of(value);
+		}
+
+		return Optional.empty();
+	}
+
+	/**
+	 * Returns the type a descendant leaf had when this snapshot was taken.
+	 *
+	 * @param path the path to the leaf, the last element being the leaf's name
+	 * @return the type of the leaf if found, otherwise {@code null}
+	 */
+	@Nullable
+	public SerializableType<?> getType(String... path) {
+		Leaf<?> leaf = this.findLeaf(path);
+		return leaf == null ? null : leaf.type;
+	}
+
+	@Nullable
+	private Leaf<?> findLeaf(String... path) {
+		if (path.length == 0) {
+			throw new IllegalArgumentException("Empty path");
+		}
+
+		ConfigSnapshot current = this;
+
+		for (int i = 0; i < path.length - 1; i++) {
+			Object entry = current.entries.get(path[i]);
+
+			if (!(entry instanceof ConfigSnapshot)) {
+				return null;
+			}
+
+			current = (ConfigSnapshot) entry;
+		}
+
+		Object entry = current.entries.get(path[path.length - 1]);
+		return entry instanceof Leaf ? (Leaf<?>) entry : null;
+	}
+
+	@Override
+	public String toString() {
+		return this.getClass().getSimpleName() + this.entries;
+	}
+
+	private static final class Leaf<T> {
+		final SerializableType<T> type;
+		final T value;
+
+		private Leaf(SerializableType<T> type, T value) {
+			this.type = type;
+			this.value = value;
+		}
+
+		static <T> Leaf<T> of(ConfigLeaf<T> leaf, @Nullable Leaf<?> previous) {
+			return of(leaf.getConfigType(), leaf.getValue(), previous);
+		}
+
+		static <T> Leaf<T> of(SerializableType<T> type, Object newValue, @Nullable Leaf<?> previous) {
+			@SuppressWarnings("unchecked") T value = (T) newValue;
+
+			if (previous != null && previous.type.equals(type) && (previous.value == value || previous.value.equals(value))) {
+				@SuppressWarnings("unchecked") Leaf<T> ret = (Leaf<T>) previous;
+				return ret;
+			}
+
+			return new Leaf<>(type, value);
+		}
+
+		@Override
+		public String toString() {
+			return String.valueOf(this.value);
+		}
+	}
+}
@@ -0,0 +1,97 @@
+package io.github.fablabsmc.fablabs.api.fiber.v1.tree;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import io.github.fablabsmc.fablabs.api.fiber.v1.exception.FiberQueryException;
+
+/**
+ * A batch of value changes applied to a {@link ConfigTree} as a whole.
+ *
+ * <p>Values are first staged with {@link #stage(ConfigLeaf, Object)}, without affecting the tree.
+ * {@link #commit()} then validates every staged value against its leaf's type constraints. If any of them
+ * cannot be corrected, nothing is applied. Otherwise, every value is applied before any listener is called:
+ * each leaf's listeners are notified exactly once, after which every
+ * {@linkplain ConfigBranch#addSubtreeListener(java.util.function.Consumer) subtree listener} receives
+ * the aggregated set of leaves that changed under its branch.
+ *
+ * <p>Commits are atomic with respect to validation and listeners, not to readers of the tree:
+ * leaves are updated one after the other, and a thread reading them while a transaction is committed
+ * may observe only part of its values. Readers that need a coherent view should read a {@link ConfigSnapshot}
+ * published with {@link #commit(AtomicReference)}, which exposes every committed value at once.
+ *
+ * <p>Only leaves created through Fiber's builders can be staged, as other implementations notify their listeners
+ * as soon as their value is set. Staged leaves must also be descendants of the transaction's tree.
+ *
+ * <p>Values are applied while holding a lock shared by the whole tree, which is also held while
+ * {@linkplain ConfigSnapshot#of(ConfigTree) snapshots} of the tree are taken. Snapshots therefore contain
+ * either none or all of a transaction's values.
+ *
+ * <p>Transactions are not thread-safe, and should only be used by the thread that created them.
+ *
+ * @see ConfigTree#beginTransaction()
+ */
+public interface ConfigTransaction {
+	/**
+	 * Stages a new value for the given leaf.
+	 *
+	 * <p>If a value was already staged for {@code leaf}, it is replaced.
+	 *
+	 * @param leaf  the leaf to update
+	 * @param value the value to stage
+	 * @param <T>   the type of value held by the leaf
+	 * @return {@code this} transaction
+	 * @throws IllegalArgumentException if {@code leaf} is not a descendant of this transaction's tree,
+	 *                                  or was not created through Fiber's builders
+	 */
+	<T> ConfigTransaction stage(@Nonnull ConfigLeaf<T> leaf, @Nonnull T value);
+
+	/**
+	 * Stages a new value for the leaf found by running the given query on this transaction's tree.
+	 *
+	 * @param query the query used to find the leaf to update
+	 * @param value the value to stage
+	 * @param <T>   the type of value held by the leaf
+	 * @return {@code this} transaction
+	 * @throws FiberQueryException if the query fails
+	 * @see ConfigQuery#run(ConfigTree)
+	 */
+	<T> ConfigTransaction stage(@Nonnull ConfigQuery<ConfigLeaf<T>> query, @Nonnull T value) throws FiberQueryException;
+
+	/**
+	 * Validates and applies every staged value.
+	 *
+	 * <p>If a staged value does not satisfy its leaf's constraints, it is replaced with the corrected value
+	 * offered by the leaf's type, similarly to {@link ConfigLeaf#setValue(Object)}. If no corrected value
+	 * exists for one of the staged values, the whole transaction is rolled back and this method returns {@code false}.
+	 *
+	 * <p>In every case, staged values are cleared once this method returns.
+	 *
+	 * @return {@code true} if every staged value was applied, {@code false} if the tree was left untouched
+	 */
+	boolean commit();
+
+	/**
+	 * Validates and applies every staged value, then publishes a new snapshot of this transaction's tree.
+	 *
+	 * <p>This method behaves like {@link #commit()}, except that once every value was applied and before any
+	 * listener is called, {@code published} is atomically updated with a {@linkplain ConfigSnapshot#update(ConfigTree, ConfigSnapshot, java.util.Map) new version}
+	 * of its current snapshot holding the committed values. Threads reading the config through {@code published}
+	 * therefore observe either none or all of this transaction's values.
+	 *
+	 * <p>Commits to the same tree are serialized, so that the published snapshots follow
+	 * the order in which values were applied to the tree.
+	 *
+	 * @param published the reference through which snapshots of the tree are published
+	 * @return the published snapshot, or {@code null} if the tree was left untouched
+	 */
+	@Nullable
+	ConfigSnapshot commit(AtomicReference<ConfigSnapshot> published);
+
+	/**
+	 * Discards every staged value.
+	 */
+	void rollback();
+}
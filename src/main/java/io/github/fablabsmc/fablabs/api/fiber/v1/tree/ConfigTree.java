@@ -1,11 +1,14 @@
 package io.github.fablabsmc.fablabs.api.fiber.v1.tree;
 
+import java.util.List;
+
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import io.github.fablabsmc.fablabs.api.fiber.v1.NodeOperations;
 import io.github.fablabsmc.fablabs.api.fiber.v1.builder.ConfigTreeBuilder;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.SerializableType;
+import io.github.fablabsmc.fablabs.impl.fiber.tree.ConfigTransactionImpl;
 
 /**
  * A container for a tree structure of {@link ConfigNode}.
@@ -54,6 +57,47 @@ public interface ConfigTree {
 	@Nullable
 	ConfigNode lookup(String name);
 
+	/**
+	 * Tries to find a descendant of this node by path.
+	 *
+	 * <p>Each element of {@code path} is the name of a node, the first one being the name
+	 * of a direct child of this tree, and every subsequent one the name of a child of the previous node.
+	 * Some implementations index the paths of their descendants, in which case this method
+	 * resolves paths of any length in constant time.
+	 *
+	 * @param path the names of the successive nodes leading to the wanted node
+	 * @return the node if found, otherwise {@code null}
+	 */
+	@Nullable
+	default ConfigNode lookupPath(List<String> path) {
+		ConfigTree tree = this;
+		ConfigNode node = null;
+
+		for (String name : path) {
+			if (tree == null) return null;
+
+			node = tree.lookup(name);
+			tree = node instanceof ConfigTree ? (ConfigTree) node : null;
+		}
+
+		return node;
+	}
+
+	/**
+	 * Returns a counter tracking structural modifications of this tree.
+	 *
+	 * <p>A structural modification is the addition or removal of a node anywhere in this tree.
+	 * The returned value changes every time such a modification happens, and can therefore be used
+	 * to find out whether a previous lookup is still valid. Trees that do not keep track of
+	 * structural modifications return a negative value.
+	 *
+	 * @return the current structure version of this tree, or a negative value if it is not tracked
+	 * @see ConfigQuery#bind(ConfigTree)
+	 */
+	default long getStructureVersion() {
+		return -1;
+	}
+
 	/**
 	 * Tries to find a child branch in this node by name. If a child is found, and it is
 	 * a branch node, it is returned.
@@ -86,4 +130,14 @@ public interface ConfigTree {
 	 * @return {@code true} if the operation succeeded
 	 */
 	boolean lookupAndBind(String name, PropertyMirror<?> mirror);
+
+	/**
+	 * Begins a transaction updating leaves of this tree.
+	 *
+	 * @return a new transaction
+	 * @see ConfigTransaction
+	 */
+	default ConfigTransaction beginTransaction() {
+		return new ConfigTransactionImpl(this);
+	}
 }
@@ -0,0 +1,19 @@
+package io.github.fablabsmc.fablabs.api.fiber.v1.tree;
+
+/**
+ * A handle to a registered listener.
+ *
+ * @see ConfigLeaf#addChangeListenerHandle(java.util.function.BiConsumer)
+ */
+@FunctionalInterface
+public interface ListenerHandle {
+	/**
+	 * Unregisters the listener this handle was obtained for.
+	 *
+	 * <p>Calling this method more than once has no additional effect.
+	 * A notification that is already in progress may still reach the listener.
+	 *
+	 * @return {@code true} if the listener was unregistered as a result of this call, {@code false} otherwise
+	 */
+	boolean remove();
+}
@@ -0,0 +1,72 @@
+package io.github.fablabsmc.fablabs.api.fiber.v1.tree;
+
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.derived.NumberConfigType;
+import io.github.fablabsmc.fablabs.impl.fiber.tree.NumberPropertyMirrorImpl;
+
+/**
+ * A {@code PropertyMirror} for numeric values, with unboxed accessors.
+ *
+ * <p>When mirroring a {@link ConfigLeaf}, the primitive forms of the current value
+ * are updated whenever the leaf changes. Reading them through {@link #getInt()},
+ * {@link #getLong()} or {@link #getDouble()} then neither allocates nor converts anything,
+ * which makes these methods suitable for values read very frequently.
+ *
+ * @param <T> the runtime type of the mirrored values
+ * @see io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.derived.ConfigTypes#INTEGER
+ */
+public interface NumberPropertyMirror<T> extends PropertyMirror<T> {
+	/**
+	 * Creates a new {@link NumberPropertyMirror} that can mirror values of the given {@link NumberConfigType}.
+	 *
+	 * @param converter The NumberConfigType of the mirrored values.
+	 * @param <T>       The runtime type of the mirrored values.
+	 */
+	static <T> NumberPropertyMirror<T> create(NumberConfigType<T> converter) {
+		return new NumberPropertyMirrorImpl<>(converter);
+	}
+
+	/**
+	 * Returns the serialized form of the mirrored value, converted to an {@code int} as if by {@link java.math.BigDecimal#intValue()}.
+	 */
+	int getInt();
+
+	/**
+	 * Returns the serialized form of the mirrored value, converted to a {@code long} as if by {@link java.math.BigDecimal#longValue()}.
+	 */
+	long getLong();
+
+	/**
+	 * Returns the serialized form of the mirrored value, converted to a {@code double} as if by {@link java.math.BigDecimal#doubleValue()}.
+	 */
+	double getDouble();
+
+	/**
+	 * Sets the serialized form of the mirrored value.
+	 *
+	 * @param value the new value
+	 * @return {@code true} if the mirrored property accepted the value, possibly after correction
+	 * @see Property#setValue(Object)
+	 */
+	boolean setInt(int value);
+
+	/**
+	 * Sets the serialized form of the mirrored value.
+	 *
+	 * @param value the new value
+	 * @return {@code true} if the mirrored property accepted the value, possibly after correction
+	 * @see Property#setValue(Object)
+	 */
+	boolean setLong(long value);
+
+	/**
+	 * Sets the serialized form of the mirrored value.
+	 *
+	 * @param value the new value
+	 * @return {@code true} if the mirrored property accepted the value, possibly after correction
+	 * @see Property#setValue(Object)
+	 */
+	boolean setDouble(double value);
+
+	@Override
+	NumberConfigType<T> getMirroredType();
+}
@@ -33,4 +33,18 @@ public interface Property<T> extends HasValue<T> {
 	default boolean accepts(@Nonnull T value) {
 		return true;
 	}
+
+	/**
+	 * Returns a counter tracking modifications of this property's value.
+	 *
+	 * <p>The returned value increases every time the value of this property is set, and can therefore
+	 * be used to find out whether a value derived from a previous {@link #getValue()} call is still valid.
+	 * To avoid missing modifications, the stamp should be read before the value it is associated with.
+	 * Properties that do not keep track of modifications return a negative value.
+	 *
+	 * @return the current modification stamp of this property, or a negative value if it is not tracked
+	 */
+	default long getModificationStamp() {
+		return -1;
+	}
 }
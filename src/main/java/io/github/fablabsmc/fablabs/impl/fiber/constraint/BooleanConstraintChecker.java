@@ -14,8 +14,8 @@ public class BooleanConstraintChecker extends ConstraintChecker<Boolean, Boolean
 	}
 
 	@Override
-	public TypeCheckResult<Boolean> test(BooleanSerializableType cfg, Boolean value) {
-		return TypeCheckResult.successful(value);
+	public TypeCheckResult<Boolean> check(BooleanSerializableType cfg, Boolean value) {
+		return TypeCheckResult.passed();
 	}
 
 	@Override
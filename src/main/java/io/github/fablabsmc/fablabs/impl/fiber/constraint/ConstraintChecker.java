@@ -23,9 +23,10 @@ public abstract class ConstraintChecker<V, T extends SerializableType<V>> {
 	 *
 	 * @param cfg   the type configuration to test against
 	 * @param value the value
-	 * @return {@code true} if {@code value} satisfies the constraint
+	 * @return {@link TypeCheckResult#passed()} if {@code value} satisfies the constraint,
+	 * or a failed result otherwise
 	 */
-	public abstract TypeCheckResult<V> test(T cfg, V value);
+	public abstract TypeCheckResult<V> check(T cfg, V value);
 
 	/**
 	 * Returns {@code true} if {@code cfg} comprehends {@code cfg2}.
@@ -19,7 +19,7 @@ public final class DecimalConstraintChecker extends ConstraintChecker<BigDecimal
 	}
 
 	@Override
-	public TypeCheckResult<BigDecimal> test(DecimalSerializableType cfg, BigDecimal value) {
+	public TypeCheckResult<BigDecimal> check(DecimalSerializableType cfg, BigDecimal value) {
 		if (cfg.getMinimum() != null && cfg.getMinimum().compareTo(value) > 0) {
 			return TypeCheckResult.failed(cfg.getMinimum());
 		} else if (cfg.getMaximum() != null && cfg.getMaximum().compareTo(value) < 0) {
@@ -31,7 +31,7 @@ public final class DecimalConstraintChecker extends ConstraintChecker<BigDecimal
 				return TypeCheckResult.unrecoverable();
 			}
 		} else {
-			return TypeCheckResult.successful(value);
+			return TypeCheckResult.passed();
 		}
 	}
 
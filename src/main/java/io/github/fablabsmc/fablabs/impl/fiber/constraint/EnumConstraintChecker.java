@@ -16,9 +16,9 @@ public final class EnumConstraintChecker extends ConstraintChecker<String, EnumS
 	}
 
 	@Override
-	public TypeCheckResult<String> test(EnumSerializableType cfg, String value) {
+	public TypeCheckResult<String> check(EnumSerializableType cfg, String value) {
 		if (cfg.getValidValues().contains(value)) {
-			return TypeCheckResult.successful(value);
+			return TypeCheckResult.passed();
 		}
 
 		String corrected = value.toUpperCase(Locale.ROOT);
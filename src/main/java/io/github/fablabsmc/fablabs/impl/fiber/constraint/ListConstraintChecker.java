@@ -2,11 +2,15 @@ package io.github.fablabsmc.fablabs.impl.fiber.constraint;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Set;
 
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.DecimalSerializableType;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.ListSerializableType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.NumericArrayList;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.SerializableType;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.TypeCheckResult;
 
 /**
@@ -26,34 +30,86 @@ public final class ListConstraintChecker<E> extends ConstraintChecker<List<E>, L
 	}
 
 	@Override
-	public TypeCheckResult<List<E>> test(ListSerializableType<E> cfg, List<E> values) {
-		boolean valid = true;
+	public TypeCheckResult<List<E>> check(ListSerializableType<E> cfg, List<E> values) {
 		int maxSize = cfg.getMaxSize();
-		Collection<E> corrected = cfg.hasUniqueElements() ? new LinkedHashSet<>(values.size()) : new ArrayList<>(values.size());
+		boolean unique = cfg.hasUniqueElements();
+		SerializableType<E> elementType = cfg.getElementType();
+
+		if (values instanceof NumericArrayList && !unique && elementType instanceof DecimalSerializableType
+				&& checkPrimitive((NumericArrayList) values, (DecimalSerializableType) elementType, cfg.getMinSize(), maxSize)) {
+			return TypeCheckResult.passed();
+		}
+
+		Set<E> seen = unique ? new HashSet<>() : null;
+		// only allocated once an element fails the check
+		Collection<E> corrected = null;
+		int passed = 0;
 
 		for (E e : values) {
-			if (corrected.size() >= maxSize) {
-				valid = false;
+			if ((corrected == null ? passed : corrected.size()) >= maxSize) {
+				if (corrected == null) corrected = copyPrefix(values, passed, unique);
 				break;
 			}
 
-			TypeCheckResult<E> testResult = cfg.getElementType().test(e);
+			TypeCheckResult<E> testResult = elementType.check(e);
+
+			if (corrected == null) {
+				if (testResult.hasPassed() && (seen == null || seen.add(e))) {
+					passed++;
+					continue;
+				}
+
+				corrected = copyPrefix(values, passed, unique);
+			}
 
 			if (testResult.hasPassed()) {
-				valid &= corrected.add(e);  // UNIQUE check
+				corrected.add(e);  // UNIQUE check
 			} else {
-				valid = false;
-				Optional<E> correctedValue = testResult.getCorrectedValue();
-				correctedValue.ifPresent(corrected::add);
+				E correctedValue = testResult.getCorrectedValueOrNull();
+
 				// if not present, just skip it
+				if (correctedValue != null) {
+					corrected.add(correctedValue);
+				}
 			}
 		}
 
-		if (corrected.size() < cfg.getMinSize()) {
+		if ((corrected == null ? passed : corrected.size()) < cfg.getMinSize()) {
 			return TypeCheckResult.unrecoverable();
 		}
 
-		return valid ? TypeCheckResult.successful(values) : TypeCheckResult.failed(new ArrayList<>(corrected));
+		if (corrected == null) {
+			return TypeCheckResult.passed();
+		}
+
+		return TypeCheckResult.failed(corrected instanceof List ? (List<E>) corrected : new ArrayList<>(corrected));
+	}
+
+	/**
+	 * Checks a primitive-backed list without boxing its elements.
+	 * If this returns {@code false}, the generic path is taken to compute corrections.
+	 */
+	private static boolean checkPrimitive(NumericArrayList values, DecimalSerializableType elementType, int minSize, int maxSize) {
+		int size = values.size();
+
+		if (size < minSize || size > maxSize) {
+			return false;
+		}
+
+		boolean integral = values.isIntegral();
+
+		for (int i = 0; i < size; i++) {
+			if (integral ? !elementType.acceptsLong(values.getLong(i)) : !elementType.acceptsDouble(values.getDouble(i))) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private static <E> Collection<E> copyPrefix(List<E> values, int length, boolean unique) {
+		List<E> prefix = values.subList(0, length);
+		return unique ? new LinkedHashSet<>(prefix) : new ArrayList<>(prefix);
 	}
 
 	@Override
@@ -1,8 +1,8 @@
 package io.github.fablabsmc.fablabs.impl.fiber.constraint;
 
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.Optional;
 
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.MapSerializableType;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.TypeCheckResult;
@@ -19,42 +19,59 @@ public class MapConstraintChecker<V> extends ConstraintChecker<Map<String, V>, M
 	}
 
 	@Override
-	public TypeCheckResult<Map<String, V>> test(MapSerializableType<V> cfg, Map<String, V> values) {
-		boolean valid = true;
+	public TypeCheckResult<Map<String, V>> check(MapSerializableType<V> cfg, Map<String, V> values) {
 		int maxSize = cfg.getMaxSize();
-		Map<String, V> corrected = new LinkedHashMap<>();
+		// only allocated once an entry fails the check
+		Map<String, V> corrected = null;
+		int passed = 0;
 
 		for (Map.Entry<String, V> entry : values.entrySet()) {
-			if (corrected.size() >= maxSize) {
-				valid = false;
+			if ((corrected == null ? passed : corrected.size()) >= maxSize) {
+				if (corrected == null) corrected = copyPrefix(values, passed);
 				break;
 			}
 
-			TypeCheckResult<String> keyTestResult = cfg.getKeyType().test(entry.getKey());
-			TypeCheckResult<V> valueTestResult = cfg.getValueType().test(entry.getValue());
+			TypeCheckResult<String> keyTestResult = cfg.getKeyType().check(entry.getKey());
+			TypeCheckResult<V> valueTestResult = cfg.getValueType().check(entry.getValue());
 
 			if (keyTestResult.hasPassed() && valueTestResult.hasPassed()) {
-				corrected.put(entry.getKey(), entry.getValue());
+				if (corrected == null) {
+					passed++;
+				} else {
+					corrected.put(entry.getKey(), entry.getValue());
+				}
 			} else {
-				valid = false;
-				Optional<String> correctedKey = keyTestResult.getCorrectedValue();
-				Optional<V> correctedValue = valueTestResult.getCorrectedValue();
+				if (corrected == null) corrected = copyPrefix(values, passed);
+				String correctedKey = keyTestResult.hasPassed() ? entry.getKey() : keyTestResult.getCorrectedValueOrNull();
+				V correctedValue = valueTestResult.hasPassed() ? entry.getValue() : valueTestResult.getCorrectedValueOrNull();
 
-				if (correctedKey.isPresent() && correctedValue.isPresent()) {
-					corrected.put(correctedKey.get(), correctedValue.get());
+				if (correctedKey != null && correctedValue != null) {
+					corrected.put(correctedKey, correctedValue);
 				}
 
 				// if key or value missing, just skip the entry
 			}
 		}
 
-		if (corrected.size() < cfg.getMinSize()) {
+		if ((corrected == null ? passed : corrected.size()) < cfg.getMinSize()) {
 			return TypeCheckResult.unrecoverable();
-		} else if (!valid) {
+		} else if (corrected != null) {
 			return TypeCheckResult.failed(corrected);
 		} else {
-			return TypeCheckResult.successful(values);
+			return TypeCheckResult.passed();
+		}
+	}
+
+	private static <V> Map<String, V> copyPrefix(Map<String, V> values, int length) {
+		Map<String, V> ret = new LinkedHashMap<>();
+		Iterator<Map.Entry<String, V>> it = values.entrySet().iterator();
+
+		for (int i = 0; i < length; i++) {
+			Map.Entry<String, V> entry = it.next();
+			ret.put(entry.getKey(), entry.getValue());
 		}
+
+		return ret;
 	}
 
 	@Override
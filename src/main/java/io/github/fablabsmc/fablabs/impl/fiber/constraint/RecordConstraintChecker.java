@@ -1,8 +1,8 @@
 package io.github.fablabsmc.fablabs.impl.fiber.constraint;
 
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.Optional;
 
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.RecordSerializableType;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.SerializableType;
@@ -19,7 +19,7 @@ public class RecordConstraintChecker extends ConstraintChecker<Map<String, Objec
 	}
 
 	@Override
-	public TypeCheckResult<Map<String, Object>> test(RecordSerializableType cfg, Map<String, Object> value) {
+	public TypeCheckResult<Map<String, Object>> check(RecordSerializableType cfg, Map<String, Object> value) {
 		// if value does not have enough fields -> unrecoverable
 		if (!value.keySet().containsAll(cfg.getFields().keySet())) {
 			return TypeCheckResult.unrecoverable();
@@ -27,34 +27,53 @@ public class RecordConstraintChecker extends ConstraintChecker<Map<String, Objec
 
 		// if value has extra fields -> failed
 		boolean successful = cfg.getFields().keySet().containsAll(value.keySet());
-		// keep track of a corrected value map
-		Map<String, Object> corrected = new LinkedHashMap<>(value.size());
+		// keep track of a corrected value map, only allocated once the check has failed
+		Map<String, Object> corrected = successful ? null : new LinkedHashMap<>(cfg.getFields().size());
+		int passed = 0;
 
 		for (Map.Entry<String, SerializableType<?>> field : cfg.getFields().entrySet()) {
 			Object child = value.get(field.getKey());
 			SerializableType<?> fieldType = field.getValue();
-			TypeCheckResult<?> result = this.testChild(fieldType, child);
-			Optional<?> correctedFieldValue = result.getCorrectedValue();
+			TypeCheckResult<?> result = this.checkChild(fieldType, child);
 
-			if (!result.hasPassed()) {
-				successful = false;
-			}
-
-			if (correctedFieldValue.isPresent()) {
-				corrected.put(field.getKey(), correctedFieldValue.get());
+			if (result.hasPassed()) {
+				if (corrected == null) {
+					passed++;
+				} else {
+					corrected.put(field.getKey(), child);
+				}
 			} else {
-				return TypeCheckResult.unrecoverable();
+				Object correctedFieldValue = result.getCorrectedValueOrNull();
+
+				if (correctedFieldValue == null) {
+					return TypeCheckResult.unrecoverable();
+				}
+
+				if (corrected == null) corrected = copyPrefix(cfg, value, passed);
+				corrected.put(field.getKey(), correctedFieldValue);
 			}
 		}
 
-		return successful ? TypeCheckResult.successful(value) : TypeCheckResult.failed(corrected);
+		return corrected == null ? TypeCheckResult.passed() : TypeCheckResult.failed(corrected);
+	}
+
+	private static Map<String, Object> copyPrefix(RecordSerializableType cfg, Map<String, Object> value, int length) {
+		Map<String, Object> ret = new LinkedHashMap<>(cfg.getFields().size());
+		Iterator<String> it = cfg.getFields().keySet().iterator();
+
+		for (int i = 0; i < length; i++) {
+			String key = it.next();
+			ret.put(key, value.get(key));
+		}
+
+		return ret;
 	}
 
 	@SuppressWarnings("unchecked")
-	private <T> TypeCheckResult<T> testChild(SerializableType<T> type, Object value) {
+	private <T> TypeCheckResult<T> checkChild(SerializableType<T> type, Object value) {
 		// value has already been validated, so this is always valid
-		// type.test also calls type.cast inside it, so double casting serves no purpose
-		return type.test((T) value);
+		// type.check also calls type.cast inside it, so double casting serves no purpose
+		return type.check((T) value);
 	}
 
 	@Override
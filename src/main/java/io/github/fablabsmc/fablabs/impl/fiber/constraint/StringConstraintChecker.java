@@ -19,7 +19,7 @@ public final class StringConstraintChecker extends ConstraintChecker<String, Str
 	}
 
 	@Override
-	public TypeCheckResult<String> test(StringSerializableType cfg, String value) {
+	public TypeCheckResult<String> check(StringSerializableType cfg, String value) {
 		if (value.length() < cfg.getMinLength()) {
 			return TypeCheckResult.unrecoverable();
 		}
@@ -34,7 +34,7 @@ public final class StringConstraintChecker extends ConstraintChecker<String, Str
 			return TypeCheckResult.unrecoverable();
 		}
 
-		return TypeCheckResult.successful(value);
+		return TypeCheckResult.passed();
 	}
 
 	@Override
@@ -0,0 +1,238 @@
+package io.github.fablabsmc.fablabs.impl.fiber.tree;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import io.github.fablabsmc.fablabs.api.fiber.v1.FiberId;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigAttribute;
+
+/**
+ * A compact map of attributes, backed by a pair of sorted arrays.
+ *
+ * <p>Attributes are ordered by the string representation of their id.
+ * Nodes usually hold very few attributes, making binary search
+ * and array insertion cheaper than a tree or hash based map.
+ * Ids are {@linkplain FiberId#intern() interned} when inserted, so that
+ * nodes sharing attributes also share their ids.
+ *
+ * <p>Lookups rely on id equality: ids that are not canonical, such as those created with
+ * the {@code FiberId} constructor, are found through their string form. Canonical ids
+ * match stored keys on identity, which skips the string comparison.
+ */
+final class AttributeMap extends AbstractMap<FiberId, ConfigAttribute<?>> {
+	static final Comparator<FiberId> ORDER = AttributeMap::compare;
+	private static final FiberId[] NO_KEYS = new FiberId[0];
+	private static final ConfigAttribute<?>[] NO_VALUES = new ConfigAttribute<?>[0];
+
+	private FiberId[] keys = NO_KEYS;
+	private ConfigAttribute<?>[] values = NO_VALUES;
+	private int size;
+	private int modCount;
+	@Nullable
+	private Set<Map.Entry<FiberId, ConfigAttribute<?>>> entrySet;
+
+	private static int compare(FiberId a, FiberId b) {
+		// identity is only a fast path for canonical ids, string forms are cached by the ids
+		return a == b ? 0 : a.toString().compareTo(b.toString());
+	}
+
+	private int indexOf(@Nullable Object key) {
+		if (!(key instanceof FiberId)) {
+			return -1;
+		}
+
+		return Arrays.binarySearch(this.keys, 0, this.size, (FiberId) key, ORDER);
+	}
+
+	@Override
+	public int size() {
+		return this.size;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return this.indexOf(key) >= 0;
+	}
+
+	@Override
+	public ConfigAttribute<?> get(Object key) {
+		int index = this.indexOf(key);
+		return index >= 0 ? this.values[index] : null;
+	}
+
+	@Override
+	public ConfigAttribute<?> put(@Nonnull FiberId key, @Nonnull ConfigAttribute<?> value) {
+		Objects.requireNonNull(key);
+		Objects.requireNonNull(value);
+		int index = this.indexOf(key);
+
+		if (index >= 0) {
+			ConfigAttribute<?> previous = this.values[index];
+			this.values[index] = value;
+			return previous;
+		}
+
+		index = -(index + 1);
+		key = key.intern();
+
+		if (this.size == this.keys.length) {
+			int capacity = this.size == 0 ? 2 : this.size + (this.size >> 1) + 1;
+			this.keys = Arrays.copyOf(this.keys, capacity);
+			this.values = Arrays.copyOf(this.values, capacity);
+		}
+
+		System.arraycopy(this.keys, index, this.keys, index + 1, this.size - index);
+		System.arraycopy(this.values, index, this.values, index + 1, this.size - index);
+		this.keys[index] = key;
+		this.values[index] = value;
+		this.size++;
+		this.modCount++;
+		return null;
+	}
+
+	@Override
+	public ConfigAttribute<?> remove(Object key) {
+		int index = this.indexOf(key);
+
+		if (index < 0) {
+			return null;
+		}
+
+		ConfigAttribute<?> previous = this.values[index];
+		this.removeAt(index);
+		return previous;
+	}
+
+	private void removeAt(int index) {
+		int moved = this.size - index - 1;
+		System.arraycopy(this.keys, index + 1, this.keys, index, moved);
+		System.arraycopy(this.values, index + 1, this.values, index, moved);
+		this.size--;
+		this.keys[this.size] = null;
+		this.values[this.size] = null;
+		this.modCount++;
+	}
+
+	@Override
+	public void clear() {
+		this.keys = NO_KEYS;
+		this.values = NO_VALUES;
+		this.size = 0;
+		this.modCount++;
+	}
+
+	@Nonnull
+	@Override
+	public Set<Map.Entry<FiberId, ConfigAttribute<?>>> entrySet() {
+		if (this.entrySet == null) {
+			this.entrySet = new EntrySet();
+		}
+
+		return this.entrySet;
+	}
+
+	private final class EntrySet extends AbstractSet<Map.Entry<FiberId, ConfigAttribute<?>>> {
+		@Override
+		public int size() {
+			return AttributeMap.this.size;
+		}
+
+		@Override
+		public void clear() {
+			AttributeMap.this.clear();
+		}
+
+		@Nonnull
+		@Override
+		public Iterator<Map.Entry<FiberId, ConfigAttribute<?>>> iterator() {
+			return new Iterator<Map.Entry<FiberId, ConfigAttribute<?>>>() {
+				private int next;
+				private int last = -1;
+				private int expectedModCount = AttributeMap.this.modCount;
+
+				@Override
+				public boolean hasNext() {
+					return this.next < AttributeMap.this.size;
+				}
+
+				@Override
+				public Map.Entry<FiberId, ConfigAttribute<?>> next() {
+					if (AttributeMap.this.modCount != this.expectedModCount) throw new ConcurrentModificationException();
+					if (!this.hasNext()) throw new NoSuchElementException();
+
+					this.last = this.next++;
+					return new Entry(this.last);
+				}
+
+				@Override
+				public void remove() {
+					if (this.last < 0) throw new IllegalStateException();
+					if (AttributeMap.this.modCount != this.expectedModCount) throw new ConcurrentModificationException();
+
+					AttributeMap.this.removeAt(this.last);
+					this.next = this.last;
+					this.last = -1;
+					this.expectedModCount = AttributeMap.this.modCount;
+				}
+			};
+		}
+	}
+
+	private final class Entry implements Map.Entry<FiberId, ConfigAttribute<?>> {
+		private final int index;
+		private final FiberId key;
+
+		Entry(int index) {
+			this.index = index;
+			this.key = AttributeMap.this.keys[index];
+		}
+
+		@Override
+		public FiberId getKey() {
+			return this.key;
+		}
+
+		@Override
+		public ConfigAttribute<?> getValue() {
+			return AttributeMap.this.values[this.index];
+		}
+
+		@Override
+		public ConfigAttribute<?> setValue(ConfigAttribute<?> value) {
+			if (AttributeMap.this.keys[this.index] != this.key) throw new ConcurrentModificationException();
+
+			ConfigAttribute<?> previous = AttributeMap.this.values[this.index];
+			AttributeMap.this.values[this.index] = Objects.requireNonNull(value);
+			return previous;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (!(o instanceof Map.Entry)) return false;
+
+			Map.Entry<?, ?> e = (Map.Entry<?, ?>) o;
+			return this.key.equals(e.getKey()) && this.getValue().equals(e.getValue());
+		}
+
+		@Override
+		public int hashCode() {
+			return this.key.hashCode() ^ this.getValue().hashCode();
+		}
+
+		@Override
+		public String toString() {
+			return this.key + "=" + this.getValue();
+		}
+	}
+}
@@ -0,0 +1,128 @@
+package io.github.fablabsmc.fablabs.impl.fiber.tree;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.derived.BooleanConfigType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.BooleanPropertyMirror;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigLeaf;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ListenerHandle;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.Property;
+
+/**
+ * The default {@link BooleanPropertyMirror} implementation.
+ *
+ * <p>When the delegate is a {@link ConfigLeaf}, a change listener pushes every new value
+ * into a volatile field. Other delegates are read on every call.
+ * The listener is a {@link MirrorBinding}, removed when the mirror is rebound or garbage collected.
+ */
+public final class BooleanPropertyMirrorImpl implements BooleanPropertyMirror {
+	private final BooleanConfigType<Boolean> mirroredType;
+	@Nullable
+	private volatile Property<Boolean> delegate;
+	@Nullable
+	private volatile ConfigLeaf<Boolean> pushingLeaf;
+	@Nullable
+	private ListenerHandle listenerHandle;
+	/**
+	 * Whether the delegate only ever holds values satisfying the mirrored type's constraints.
+	 */
+	private volatile boolean trusted;
+	private volatile boolean value;
+
+	public BooleanPropertyMirrorImpl(BooleanConfigType<Boolean> mirroredType) {
+		this.mirroredType = mirroredType;
+	}
+
+	@Override
+	public synchronized void mirror(Property<?> delegate) {
+		if (!Boolean.class.equals(delegate.getType())) {
+			throw new IllegalArgumentException("Unsupported delegate type " + delegate.getType() + ", should be " + Boolean.class);
+		}
+
+		@SuppressWarnings("unchecked") Property<Boolean> d = (Property<Boolean>) delegate;
+
+		if (this.listenerHandle != null) {
+			this.listenerHandle.remove();
+			this.listenerHandle = null;
+		}
+
+		this.pushingLeaf = null;
+		this.trusted = false;
+		this.delegate = d;
+
+		if (d instanceof ConfigLeaf) {
+			ConfigLeaf<Boolean> leaf = (ConfigLeaf<Boolean>) d;
+			this.trusted = this.mirroredType.getSerializedType().isAssignableFrom(leaf.getConfigType());
+			this.listenerHandle = MirrorBinding.bind(this, leaf, BooleanPropertyMirrorImpl::update);
+			// push before publishing the leaf, so that readers never see the previous delegate's value
+			this.push(leaf);
+			this.pushingLeaf = leaf;
+		}
+	}
+
+	private synchronized void update(ConfigLeaf<Boolean> leaf) {
+		// a notification from a previous delegate may still be in flight after rebinding
+		if (leaf == this.pushingLeaf) {
+			this.push(leaf);
+		}
+	}
+
+	private void push(ConfigLeaf<Boolean> leaf) {
+		// re-read the leaf rather than trusting the notified value, in case notifications from concurrent writes get reordered
+		this.value = this.trusted ? this.mirroredType.toRuntimeTypeUnchecked(leaf.getValue()) : this.mirroredType.toRuntimeType(leaf.getValue());
+	}
+
+	private Property<Boolean> getDelegate() {
+		Property<Boolean> delegate = this.delegate;
+		if (delegate == null) throw new IllegalStateException("No delegate property set for this mirror");
+		return delegate;
+	}
+
+	@Override
+	public Property<?> getMirrored() {
+		return this.delegate;
+	}
+
+	@Override
+	public long getModificationStamp() {
+		Property<?> delegate = this.delegate;
+		return delegate == null ? -1 : delegate.getModificationStamp();
+	}
+
+	@Override
+	public boolean getBoolean() {
+		return this.pushingLeaf != null ? this.value : this.mirroredType.toRuntimeType(this.getDelegate().getValue());
+	}
+
+	@Override
+	public boolean setBoolean(boolean value) {
+		return this.setValue(value);
+	}
+
+	@Override
+	public boolean setValue(@Nonnull Boolean value) {
+		return this.getDelegate().setValue(this.mirroredType.toPlatformType(value));
+	}
+
+	@Override
+	public boolean accepts(@Nonnull Boolean value) {
+		return this.getDelegate().accepts(this.mirroredType.toPlatformType(value));
+	}
+
+	@Nonnull
+	@Override
+	public Boolean getValue() {
+		return this.getBoolean();
+	}
+
+	@Override
+	public Class<Boolean> getType() {
+		return this.mirroredType.getRuntimeType();
+	}
+
+	@Override
+	public BooleanConfigType<Boolean> getMirroredType() {
+		return this.mirroredType;
+	}
+}
@@ -1,6 +1,7 @@
 package io.github.fablabsmc.fablabs.impl.fiber.tree;
 
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
 
 import javax.annotation.Nonnull;
 
@@ -9,23 +10,33 @@ import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.SerializableType;
 import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigAttribute;
 
 public class ConfigAttributeImpl<T> implements ConfigAttribute<T> {
+	@SuppressWarnings("rawtypes")
+	private static final AtomicLongFieldUpdater<ConfigAttributeImpl> STAMP = AtomicLongFieldUpdater.newUpdater(ConfigAttributeImpl.class, "stamp");
+
 	private final FiberId identifier;
 	private final SerializableType<T> type;
 	@Nonnull
-	private T value;
+	private volatile T value;
+	private volatile long stamp;
 
 	public ConfigAttributeImpl(FiberId identifier, SerializableType<T> type, @Nonnull T value) {
 		this.identifier = identifier;
-		this.type = type;
+		this.type = SerializableType.intern(type);
 		this.value = Objects.requireNonNull(value);
 	}
 
 	@Override
 	public boolean setValue(@Nonnull T value) {
 		this.value = Objects.requireNonNull(value);
+		STAMP.incrementAndGet(this);
 		return true;
 	}
 
+	@Override
+	public long getModificationStamp() {
+		return this.stamp;
+	}
+
 	@Override
 	@Nonnull
 	public T getValue() {
@@ -1,7 +1,13 @@
 package io.github.fablabsmc.fablabs.impl.fiber.tree;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.function.Consumer;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -10,6 +16,8 @@ import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.SerializableType;
 import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigBranch;
 import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigLeaf;
 import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigNode;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigTree;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ListenerHandle;
 import io.github.fablabsmc.fablabs.api.fiber.v1.tree.NodeCollection;
 import io.github.fablabsmc.fablabs.api.fiber.v1.tree.PropertyMirror;
 
@@ -17,8 +25,22 @@ import io.github.fablabsmc.fablabs.api.fiber.v1.tree.PropertyMirror;
  * Class implementing {@link ConfigBranch}.
  */
 public class ConfigBranchImpl extends ConfigNodeImpl implements ConfigBranch {
+	private static final AtomicLongFieldUpdater<ConfigBranchImpl> STRUCTURE_VERSION = AtomicLongFieldUpdater.newUpdater(ConfigBranchImpl.class, "structureVersion");
+	/**
+	 * The commit lock of trees whose root is not a {@code ConfigBranchImpl}.
+	 */
+	private static final Object FOREIGN_ROOT_LOCK = new Object();
+
 	private final NodeCollection items;
 	private final boolean serializeSeparately;
+	private final ListenerList<Consumer<Set<ConfigLeaf<?>>>> subtreeListeners = new ListenerList<>();
+	@Nullable
+	private final PathIndex pathIndex;
+	private volatile long structureVersion;
+	/**
+	 * Held while transactions apply values to the tree rooted at this branch, and while snapshots of it are taken.
+	 */
+	private final Object commitLock = new Object();
 
 	/**
 	 * Creates a new {@code ConfigBranch}.
@@ -27,15 +49,29 @@ public class ConfigBranchImpl extends ConfigNodeImpl implements ConfigBranch {
 	 * @param comment             the comment for this {@link ConfigBranchImpl}
 	 * @param items               the node's items
 	 * @param serializeSeparately whether or not this node should be serialised separately. If {@code true}, it will be ignored during serialisation.
+	 * @param indexPaths          whether or not this node should index the paths of all its descendants. If {@code true}, {@link #lookupPath(List)} runs in constant time.
 	 */
-	public ConfigBranchImpl(String name, @Nullable String comment, @Nonnull Collection<ConfigNode> items, boolean serializeSeparately) {
+	public ConfigBranchImpl(String name, @Nullable String comment, @Nonnull Collection<ConfigNode> items, boolean serializeSeparately, boolean indexPaths) {
 		super(name, comment);
 		this.items = new IndexedNodeCollection(this);
 		this.serializeSeparately = serializeSeparately;
+		this.pathIndex = indexPaths ? new PathIndex() : null;
 		// must do 2-step initialization, to avoid leaking uninitialized <this>
 		this.items.addAll(items);
 	}
 
+	/**
+	 * Creates a new {@code ConfigBranch} that does not index the paths of its descendants.
+	 *
+	 * @param name                the name for this {@link ConfigBranchImpl}
+	 * @param comment             the comment for this {@link ConfigBranchImpl}
+	 * @param items               the node's items
+	 * @param serializeSeparately whether or not this node should be serialised separately. If {@code true}, it will be ignored during serialisation.
+	 */
+	public ConfigBranchImpl(String name, @Nullable String comment, @Nonnull Collection<ConfigNode> items, boolean serializeSeparately) {
+		this(name, comment, items, serializeSeparately, false);
+	}
+
 	/**
 	 * Creates a new {@code ConfigBranch} with the provided {@code name} and {@code comment}.
 	 *
@@ -69,6 +105,16 @@ public class ConfigBranchImpl extends ConfigNodeImpl implements ConfigBranch {
 		return this.items.getByName(name);
 	}
 
+	@Nullable
+	@Override
+	public ConfigNode lookupPath(List<String> path) {
+		if (this.pathIndex != null) {
+			return this.pathIndex.get(path);
+		}
+
+		return ConfigBranch.super.lookupPath(path);
+	}
+
 	@Nullable
 	@Override
 	public <T> ConfigLeaf<T> lookupLeaf(String name, SerializableType<T> type) {
@@ -110,4 +156,113 @@ public class ConfigBranchImpl extends ConfigNodeImpl implements ConfigBranch {
 	public boolean isSerializedSeparately() {
 		return serializeSeparately;
 	}
+
+	@Override
+	public boolean clearDirty() {
+		// a clean branch has no dirty descendant
+		if (!super.clearDirty()) {
+			return false;
+		}
+
+		for (ConfigNode item : this.getItems()) {
+			if (!(item instanceof ConfigBranch && ((ConfigBranch) item).isSerializedSeparately())) {
+				item.clearDirty();
+			}
+		}
+
+		return true;
+	}
+
+	@Override
+	public long getStructureVersion() {
+		return this.structureVersion;
+	}
+
+	/**
+	 * Updates the structure versions and path indices of this branch and its ancestors after a child was added or removed,
+	 * and marks this branch as dirty.
+	 *
+	 * @param child the child that was added to or removed from this branch
+	 * @param added {@code true} if the child was added, {@code false} if it was removed
+	 */
+	void onChildChanged(ConfigNode child, boolean added) {
+		this.markDirty();
+		LinkedList<String> path = new LinkedList<>();
+		path.add(child.getName());
+
+		for (ConfigBranch branch = this; branch != null; branch = branch.getParent()) {
+			if (branch instanceof ConfigBranchImpl) {
+				STRUCTURE_VERSION.incrementAndGet((ConfigBranchImpl) branch);
+				PathIndex index = ((ConfigBranchImpl) branch).pathIndex;
+
+				if (index != null) {
+					List<String> relativePath = Collections.unmodifiableList(new ArrayList<>(path));
+
+					if (added) {
+						index.add(relativePath, child);
+					} else {
+						index.remove(relativePath, child);
+					}
+				}
+			}
+
+			path.addFirst(branch.getName());
+		}
+	}
+
+	/**
+	 * Returns the lock held while transactions apply values to the tree containing the given (sub)tree.
+	 *
+	 * <p>The lock belongs to the root of the tree, so that transactions on different subtrees
+	 * of the same tree are serialized with each other, and with snapshots taken of any part of the tree.
+	 *
+	 * @param tree a tree, or a subtree of the tree
+	 * @return the commit lock of the tree
+	 */
+	public static Object getCommitLock(ConfigTree tree) {
+		if (!(tree instanceof ConfigBranch)) {
+			return FOREIGN_ROOT_LOCK;
+		}
+
+		ConfigBranch root = (ConfigBranch) tree;
+
+		while (root.getParent() != null) {
+			root = root.getParent();
+		}
+
+		return root instanceof ConfigBranchImpl ? ((ConfigBranchImpl) root).commitLock : FOREIGN_ROOT_LOCK;
+	}
+
+	@Override
+	public ListenerHandle addSubtreeListener(Consumer<Set<ConfigLeaf<?>>> listener) {
+		return this.subtreeListeners.add(listener);
+	}
+
+	boolean hasSubtreeListeners() {
+		return !this.subtreeListeners.isEmpty();
+	}
+
+	@SuppressWarnings("unchecked")
+	void fireSubtreeChange(Set<ConfigLeaf<?>> changed) {
+		for (Object listener : this.subtreeListeners.getListeners()) {
+			((Consumer<Set<ConfigLeaf<?>>>) listener).accept(changed);
+		}
+	}
+
+	/**
+	 * Notifies the subtree listeners of every ancestor of {@code leaf} that its value changed.
+	 *
+	 * @param leaf a leaf which value changed
+	 */
+	static void notifySubtreeListeners(ConfigLeaf<?> leaf) {
+		Set<ConfigLeaf<?>> changed = null;
+
+		for (ConfigBranch branch = leaf.getParent(); branch != null; branch = branch.getParent()) {
+			if (branch instanceof ConfigBranchImpl && ((ConfigBranchImpl) branch).hasSubtreeListeners()) {
+				if (changed == null) changed = Collections.singleton(leaf);
+
+				((ConfigBranchImpl) branch).fireSubtreeChange(changed);
+			}
+		}
+	}
 }
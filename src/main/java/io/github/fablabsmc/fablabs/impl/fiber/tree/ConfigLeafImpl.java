@@ -1,6 +1,8 @@
 package io.github.fablabsmc.fablabs.impl.fiber.tree;
 
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.function.BiConsumer;
 
 import javax.annotation.Nonnull;
@@ -10,13 +12,30 @@ import io.github.fablabsmc.fablabs.api.fiber.v1.builder.ConfigLeafBuilder;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.SerializableType;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.TypeCheckResult;
 import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigLeaf;
-
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ListenerHandle;
+
+/**
+ * The default {@link ConfigLeaf} implementation.
+ *
+ * <p>Values are published atomically: {@link #getValue()} is a single volatile read and never blocks,
+ * while {@link #setValue(Object)} validates the new value before swapping it in. A listener invoked
+ * as a result of a {@code setValue} call observes the value it is notified about, and any thread
+ * that reads that value from this leaf afterwards also observes every write made before it was set.
+ *
+ * <p>List and map values, including the default value, are stored as deeply immutable copies.
+ */
 public final class ConfigLeafImpl<T> extends ConfigNodeImpl implements ConfigLeaf<T> {
-	private T value;
+	@SuppressWarnings("rawtypes")
+	private static final AtomicReferenceFieldUpdater<ConfigLeafImpl, Object> VALUE = AtomicReferenceFieldUpdater.newUpdater(ConfigLeafImpl.class, Object.class, "value");
+
+	@SuppressWarnings("rawtypes")
+	private static final AtomicLongFieldUpdater<ConfigLeafImpl> STAMP = AtomicLongFieldUpdater.newUpdater(ConfigLeafImpl.class, "stamp");
+
+	private volatile T value;
+	private volatile long stamp;
 	@Nonnull
 	private final T defaultValue;
-	@Nonnull
-	private BiConsumer<T, T> listener;
+	private final ListenerList<BiConsumer<T, T>> listeners = new ListenerList<>();
 	@Nonnull
 	private final SerializableType<T> type;
 
@@ -32,10 +51,10 @@ public final class ConfigLeafImpl<T> extends ConfigNodeImpl implements ConfigLea
 	 */
 	public ConfigLeafImpl(@Nonnull String name, @Nonnull SerializableType<T> type, @Nullable String comment, @Nonnull T defaultValue, @Nonnull BiConsumer<T, T> listener) {
 		super(name, comment);
-		this.defaultValue = Objects.requireNonNull(defaultValue);
-		this.listener = listener;
-		this.type = type;
-		this.setValue(defaultValue);
+		this.defaultValue = FrozenValues.freeze(Objects.requireNonNull(defaultValue));
+		this.listeners.add(listener);
+		this.type = SerializableType.intern(type);
+		this.setValue(this.defaultValue);
 	}
 
 	@Override
@@ -56,34 +75,91 @@ public final class ConfigLeafImpl<T> extends ConfigNodeImpl implements ConfigLea
 
 	@Override
 	public boolean setValue(@Nonnull T value) {
-		T correctedValue;
-		TypeCheckResult<T> result = this.type.test(value);
+		T correctedValue = this.correct(value);
 
-		if (result.hasPassed()) {
-			correctedValue = value;
-		} else {
-			if (!result.getCorrectedValue().isPresent()) {
-				return false;
-			}
-
-			correctedValue = result.getCorrectedValue().get();
+		if (correctedValue == null) {
+			return false;
 		}
 
-		T oldValue = this.value;
-		this.value = Objects.requireNonNull(correctedValue);
-		this.listener.accept(oldValue, this.value);
+		this.setCheckedValue(correctedValue);
 		return true;
 	}
 
+	/**
+	 * Sets a value that is already known to satisfy this leaf's constraints, then notifies listeners.
+	 *
+	 * @param value the new value
+	 */
+	void setCheckedValue(@Nonnull T value) {
+		T oldValue = this.swapValue(value);
+		this.notifyListeners(oldValue, value);
+		ConfigBranchImpl.notifySubtreeListeners(this);
+	}
+
+	/**
+	 * Checks a value against this leaf's type constraints.
+	 *
+	 * @param value the value to check
+	 * @return {@code value} if it passed the check, a corrected value if one exists, {@code null} otherwise.
+	 * Lists and maps are returned as immutable copies.
+	 */
+	@Nullable
+	T correct(@Nonnull T value) {
+		TypeCheckResult<T> result = this.type.check(value);
+
+		if (result.hasPassed()) {
+			return FrozenValues.freeze(value);
+		}
+
+		T corrected = result.getCorrectedValueOrNull();
+		return corrected == null ? null : FrozenValues.freeze(corrected);
+	}
+
+	/**
+	 * Publishes a value that already satisfies this leaf's constraints, without notifying listeners.
+	 *
+	 * @param correctedValue the new value
+	 * @return the previous value
+	 */
+	@SuppressWarnings("unchecked")
+	T swapValue(@Nonnull T correctedValue) {
+		T oldValue = (T) VALUE.getAndSet(this, Objects.requireNonNull(correctedValue));
+		// bumped after the value, so that readers checking the stamp first never miss a write
+		STAMP.incrementAndGet(this);
+		this.markDirty();
+		return oldValue;
+	}
+
+	@Override
+	public long getModificationStamp() {
+		return this.stamp;
+	}
+
+	@SuppressWarnings("unchecked")
+	void notifyListeners(T oldValue, T newValue) {
+		for (Object listener : this.listeners.getListeners()) {
+			((BiConsumer<T, T>) listener).accept(oldValue, newValue);
+		}
+	}
+
 	@Override
 	@Nonnull
 	public BiConsumer<T, T> getListener() {
-		return listener;
+		return this::notifyListeners;
 	}
 
 	@Override
 	public void addChangeListener(BiConsumer<T, T> listener) {
-		this.listener = this.listener.andThen(listener);
+		this.listeners.add(listener);
+	}
+
+	@Override
+	public ListenerHandle addChangeListenerHandle(BiConsumer<T, T> listener) {
+		return this.listeners.add(listener);
+	}
+
+	int getListenerCount() {
+		return this.listeners.size();
 	}
 
 	@Override
@@ -1,9 +1,8 @@
 package io.github.fablabsmc.fablabs.impl.fiber.tree;
 
-import java.util.Comparator;
 import java.util.Map;
 import java.util.Optional;
-import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -25,13 +24,18 @@ import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigNode;
  * @see ConfigLeafImpl
  */
 public abstract class ConfigNodeImpl implements ConfigNode, Commentable {
-	private final Map<FiberId, ConfigAttribute<?>> attributes;
+	private static final AtomicIntegerFieldUpdater<ConfigNodeImpl> DIRTY = AtomicIntegerFieldUpdater.newUpdater(ConfigNodeImpl.class, "dirty");
+
+	// most nodes never hold any attribute, the map is only created when first requested
+	@Nullable
+	private Map<FiberId, ConfigAttribute<?>> attributes;
 	@Nonnull
 	private final String name;
 	@Nullable
 	private final String comment;
 	@Nullable
 	private ConfigBranch parent;
+	private volatile int dirty = 1;
 
 	/**
 	 * Creates a new {@code ConfigLeaf}.
@@ -40,7 +44,6 @@ public abstract class ConfigNodeImpl implements ConfigNode, Commentable {
 	 * @param comment the comment for this leaf
 	 */
 	public ConfigNodeImpl(@Nonnull String name, @Nullable String comment) {
-		this.attributes = new TreeMap<>(Comparator.comparing(FiberId::toString));
 		this.name = name;
 		this.comment = comment;
 	}
@@ -63,8 +66,59 @@ public abstract class ConfigNodeImpl implements ConfigNode, Commentable {
 		return this.parent;
 	}
 
+	@Override
+	public boolean isDirty() {
+		return this.dirty != 0;
+	}
+
+	@Override
+	public boolean clearDirty() {
+		return DIRTY.getAndSet(this, 0) != 0;
+	}
+
+	/**
+	 * Marks a node as clean, without visiting its descendants.
+	 *
+	 * <p>Serializers writing only the changed parts of a tree clear nodes from the top down with this method,
+	 * reading each node's value or children after clearing it. Every dirty descendant of a node cleared
+	 * this way must then be cleared as well, or later changes to it will not make its ancestors dirty.
+	 *
+	 * @param node the node to clear
+	 * @return {@code true} if the node was dirty
+	 * @see ConfigNode#clearDirty()
+	 */
+	public static boolean clearNodeDirty(ConfigNode node) {
+		return node instanceof ConfigNodeImpl ? DIRTY.getAndSet((ConfigNodeImpl) node, 0) != 0 : node.clearDirty();
+	}
+
+	/**
+	 * Marks this node and its ancestors as dirty.
+	 *
+	 * <p>Propagation stops at the first node that is already dirty: its ancestors are either dirty as well,
+	 * or being cleared by a serializer that has yet to visit that node.
+	 */
+	void markDirty() {
+		for (ConfigNode node = this; node instanceof ConfigNodeImpl; node = node.getParent()) {
+			ConfigNodeImpl impl = (ConfigNodeImpl) node;
+
+			if (impl.dirty != 0) {
+				return;
+			}
+
+			impl.dirty = 1;
+
+			if (node instanceof ConfigBranch && ((ConfigBranch) node).isSerializedSeparately()) {
+				return;
+			}
+		}
+	}
+
 	@Override
 	public Map<FiberId, ConfigAttribute<?>> getAttributes() {
+		if (this.attributes == null) {
+			this.attributes = new AttributeMap();
+		}
+
 		return this.attributes;
 	}
 
@@ -78,6 +132,10 @@ public abstract class ConfigNodeImpl implements ConfigNode, Commentable {
 
 	@Override
 	public <A> Optional<A> getAttributeValue(FiberId id, SerializableType<A> expectedType) {
+		if (this.attributes == null) {
+			return Optional.empty();
+		}
+
 		ConfigAttribute<?> attr = this.attributes.get(id);
 
 		if (attr != null) {
@@ -0,0 +1,188 @@
+package io.github.fablabsmc.fablabs.impl.fiber.tree;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import io.github.fablabsmc.fablabs.api.fiber.v1.exception.FiberQueryException;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigBranch;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigLeaf;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigQuery;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigSnapshot;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigTransaction;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigTree;
+
+public final class ConfigTransactionImpl implements ConfigTransaction {
+	private final ConfigTree tree;
+	// the staging order is kept when notifying listeners
+	private final Map<ConfigLeaf<?>, Object> staged = new LinkedHashMap<>();
+
+	public ConfigTransactionImpl(ConfigTree tree) {
+		this.tree = tree;
+	}
+
+	@Override
+	public <T> ConfigTransaction stage(@Nonnull ConfigLeaf<T> leaf, @Nonnull T value) {
+		Objects.requireNonNull(value);
+
+		// other implementations notify their listeners as soon as their value is set
+		if (!(leaf instanceof ConfigLeafImpl)) {
+			throw new IllegalArgumentException("Unsupported leaf implementation " + leaf.getClass().getName());
+		}
+
+		if (!this.isInTree(leaf)) {
+			throw new IllegalArgumentException("Leaf " + leaf.getName() + " is not part of the transaction's tree");
+		}
+
+		this.staged.put(leaf, value);
+		return this;
+	}
+
+	private boolean isInTree(ConfigLeaf<?> leaf) {
+		for (ConfigBranch branch = leaf.getParent(); branch != null; branch = branch.getParent()) {
+			if (branch == this.tree) return true;
+		}
+
+		return false;
+	}
+
+	@Override
+	public <T> ConfigTransaction stage(@Nonnull ConfigQuery<ConfigLeaf<T>> query, @Nonnull T value) throws FiberQueryException {
+		return this.stage(query.run(this.tree), value);
+	}
+
+	@Override
+	public boolean commit() {
+		try {
+			List<Change<?>> changes = this.validate();
+
+			if (changes == null) {
+				return false;
+			}
+
+			synchronized (ConfigBranchImpl.getCommitLock(this.tree)) {
+				for (Change<?> change : changes) {
+					change.apply();
+				}
+			}
+
+			this.notifyListeners(changes);
+			return true;
+		} finally {
+			this.staged.clear();
+		}
+	}
+
+	@Nullable
+	@Override
+	public ConfigSnapshot commit(AtomicReference<ConfigSnapshot> published) {
+		try {
+			List<Change<?>> changes = this.validate();
+
+			if (changes == null) {
+				return null;
+			}
+
+			Map<ConfigLeaf<?>, Object> values = new IdentityHashMap<>(changes.size());
+			ConfigSnapshot snapshot;
+
+			// publication order must match the order in which values are applied
+			synchronized (ConfigBranchImpl.getCommitLock(this.tree)) {
+				for (Change<?> change : changes) {
+					change.apply();
+					values.put(change.leaf, change.newValue);
+				}
+
+				snapshot = published.updateAndGet(previous -> ConfigSnapshot.update(this.tree, previous, values));
+			}
+
+			this.notifyListeners(changes);
+			return snapshot;
+		} finally {
+			this.staged.clear();
+		}
+	}
+
+	/**
+	 * Checks every staged value against its leaf's constraints.
+	 *
+	 * @return the corrected changes, or {@code null} if a staged value cannot be corrected
+	 */
+	@Nullable
+	private List<Change<?>> validate() {
+		List<Change<?>> changes = new ArrayList<>(this.staged.size());
+
+		for (Map.Entry<ConfigLeaf<?>, Object> entry : this.staged.entrySet()) {
+			Change<?> change = Change.create(entry.getKey(), entry.getValue());
+
+			if (change == null) {
+				return null;
+			}
+
+			changes.add(change);
+		}
+
+		return changes;
+	}
+
+	private void notifyListeners(List<Change<?>> changes) {
+		Map<ConfigBranchImpl, Set<ConfigLeaf<?>>> aggregated = new LinkedHashMap<>();
+
+		for (Change<?> change : changes) {
+			change.notifyListeners();
+
+			for (ConfigBranch branch = change.leaf.getParent(); branch != null; branch = branch.getParent()) {
+				if (branch instanceof ConfigBranchImpl && ((ConfigBranchImpl) branch).hasSubtreeListeners()) {
+					aggregated.computeIfAbsent((ConfigBranchImpl) branch, b -> new LinkedHashSet<>()).add(change.leaf);
+				}
+			}
+		}
+
+		for (Map.Entry<ConfigBranchImpl, Set<ConfigLeaf<?>>> entry : aggregated.entrySet()) {
+			entry.getKey().fireSubtreeChange(Collections.unmodifiableSet(entry.getValue()));
+		}
+	}
+
+	@Override
+	public void rollback() {
+		this.staged.clear();
+	}
+
+	private static final class Change<T> {
+		final ConfigLeafImpl<T> leaf;
+		final T newValue;
+		T oldValue;
+
+		private Change(ConfigLeafImpl<T> leaf, T newValue) {
+			this.leaf = leaf;
+			this.newValue = newValue;
+		}
+
+		@Nullable
+		static <T> Change<T> create(ConfigLeaf<T> leaf, Object stagedValue) {
+			// only leaf implementations that can be updated without notification are staged
+			ConfigLeafImpl<T> impl = (ConfigLeafImpl<T>) leaf;
+			@SuppressWarnings("unchecked") T value = (T) stagedValue;
+			T corrected = impl.correct(value);
+			return corrected == null ? null : new Change<>(impl, corrected);
+		}
+
+		void apply() {
+			this.oldValue = this.leaf.swapValue(this.newValue);
+		}
+
+		void notifyListeners() {
+			this.leaf.notifyListeners(this.oldValue, this.newValue);
+		}
+	}
+}
@@ -0,0 +1,112 @@
+package io.github.fablabsmc.fablabs.impl.fiber.tree;
+
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Set;
+
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.NumericArrayList;
+
+/**
+ * Deeply immutable copies of config values.
+ *
+ * <p>Leaves store their values through {@link #freeze(Object)}, so that neither the caller that set a value
+ * nor anyone reading it can change it afterwards. Runtime views over stored lists and maps, which may
+ * memoize their converted elements, therefore never go stale.
+ */
+final class FrozenValues {
+	private FrozenValues() {
+	}
+
+	/**
+	 * Returns a deeply immutable version of a config value.
+	 *
+	 * <p>Lists and maps are copied, recursively, unless they are already immutable.
+	 * Other values are returned as-is.
+	 *
+	 * @param value the value to freeze
+	 * @param <T>   the type of the value
+	 * @return {@code value} if it is already immutable, otherwise an immutable copy
+	 */
+	@SuppressWarnings("unchecked")
+	static <T> T freeze(T value) {
+		if (value instanceof FrozenList || value instanceof FrozenMap || value instanceof NumericArrayList) {
+			return value;
+		}
+
+		if (value instanceof List) {
+			List<?> list = (List<?>) value;
+			Object[] elements = new Object[list.size()];
+			int i = 0;
+
+			for (Object element : list) {
+				elements[i++] = freeze(element);
+			}
+
+			return (T) new FrozenList<>(elements);
+		}
+
+		if (value instanceof Map) {
+			Map<Object, Object> copy = new LinkedHashMap<>();
+
+			for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+				copy.put(entry.getKey(), freeze(entry.getValue()));
+			}
+
+			return (T) new FrozenMap<>(copy);
+		}
+
+		return value;
+	}
+
+	private static final class FrozenList<E> extends AbstractList<E> implements RandomAccess {
+		private final Object[] elements;
+
+		FrozenList(Object[] elements) {
+			this.elements = elements;
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public E get(int index) {
+			return (E) this.elements[index];
+		}
+
+		@Override
+		public int size() {
+			return this.elements.length;
+		}
+	}
+
+	private static final class FrozenMap<K, V> extends AbstractMap<K, V> {
+		private final Map<K, V> entries;
+
+		FrozenMap(Map<K, V> entries) {
+			this.entries = Collections.unmodifiableMap(entries);
+		}
+
+		@Override
+		public Set<Entry<K, V>> entrySet() {
+			return this.entries.entrySet();
+		}
+
+		@Override
+		public V get(Object key) {
+			return this.entries.get(key);
+		}
+
+		@Override
+		public boolean containsKey(Object key) {
+			return this.entries.containsKey(key);
+		}
+
+		@Override
+		public int size() {
+			return this.entries.size();
+		}
+	}
+}
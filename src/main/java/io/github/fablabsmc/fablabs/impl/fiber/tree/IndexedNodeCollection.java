@@ -49,6 +49,7 @@ public class IndexedNodeCollection extends AbstractCollection<ConfigNode> implem
 				if (this.last == null) throw new IllegalStateException();
 				// order is important to avoid infinite recursion
 				this.backing.remove();
+				onRemoved(this.last);
 				this.last.detach();
 			}
 		};
@@ -76,6 +77,11 @@ public class IndexedNodeCollection extends AbstractCollection<ConfigNode> implem
 
 		this.items.put(item.getName(), item);
 		item.attachTo(this.owner);
+
+		if (this.owner instanceof ConfigBranchImpl) {
+			((ConfigBranchImpl) this.owner).onChildChanged(item, true);
+		}
+
 		return true;
 	}
 
@@ -94,6 +100,7 @@ public class IndexedNodeCollection extends AbstractCollection<ConfigNode> implem
 			boolean removed = this.items.remove(((ConfigNode) child).getName(), child);
 
 			if (removed) {
+				this.onRemoved((ConfigNode) child);
 				((ConfigNode) child).detach();
 				return true;
 			}
@@ -118,9 +125,16 @@ public class IndexedNodeCollection extends AbstractCollection<ConfigNode> implem
 		ConfigNode removed = this.items.remove(name);
 
 		if (removed != null) {
+			this.onRemoved(removed);
 			removed.detach();
 		}
 
 		return removed;
 	}
+
+	private void onRemoved(ConfigNode child) {
+		if (this.owner instanceof ConfigBranchImpl) {
+			((ConfigBranchImpl) this.owner).onChildChanged(child, false);
+		}
+	}
 }
@@ -0,0 +1,157 @@
+package io.github.fablabsmc.fablabs.impl.fiber.tree;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.ToIntFunction;
+
+import javax.annotation.Nonnull;
+
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ListenerHandle;
+
+/**
+ * A copy-on-write list of listeners.
+ *
+ * <p>Every registration or removal replaces the backing array, so that dispatching code can iterate
+ * over {@link #getListeners()} without locking. Listeners registered or removed while a notification
+ * is in progress only take effect for subsequent notifications.
+ *
+ * @param <L> the type of listeners held by this list
+ */
+public final class ListenerList<L> {
+	@SuppressWarnings("rawtypes")
+	private static final AtomicReferenceFieldUpdater<ListenerList, Registrations> REGISTRATIONS = AtomicReferenceFieldUpdater.newUpdater(ListenerList.class, Registrations.class, "registrations");
+
+	private volatile Registrations registrations = Registrations.EMPTY;
+
+	/**
+	 * Registers a listener.
+	 *
+	 * <p>The same listener may be registered several times, in which case
+	 * it will be notified once per registration.
+	 *
+	 * @param listener the listener to add
+	 * @return a handle that can be used to unregister this registration of the listener
+	 */
+	public ListenerHandle add(@Nonnull L listener) {
+		Registration registration = new Registration();
+		Registrations current;
+
+		do {
+			current = this.registrations;
+		} while (!REGISTRATIONS.compareAndSet(this, current, current.with(listener, registration)));
+
+		return registration;
+	}
+
+	/**
+	 * Unregisters one registration of the given listener.
+	 *
+	 * <p>If the listener was registered several times, its earliest registration is removed.
+	 *
+	 * @param listener the listener to remove
+	 * @return {@code true} if the listener was registered
+	 */
+	public boolean remove(@Nonnull L listener) {
+		return this.removeAt(current -> indexOf(current.listeners, listener));
+	}
+
+	private boolean removeRegistration(Registration registration) {
+		return this.removeAt(current -> indexOf(current.handles, registration));
+	}
+
+	private boolean removeAt(ToIntFunction<Registrations> indexFinder) {
+		Registrations current;
+		Registrations updated;
+
+		do {
+			current = this.registrations;
+			int index = indexFinder.applyAsInt(current);
+
+			if (index < 0) return false;
+
+			updated = current.without(index);
+		} while (!REGISTRATIONS.compareAndSet(this, current, updated));
+
+		return true;
+	}
+
+	private static int indexOf(Object[] array, Object element) {
+		for (int i = 0; i < array.length; i++) {
+			if (array[i] == element) {
+				return i;
+			}
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Returns the listeners currently registered, in registration order.
+	 *
+	 * <p>The returned array is shared and must not be modified. Every element is of type {@code L}.
+	 *
+	 * @return the current listeners
+	 */
+	public Object[] getListeners() {
+		return this.registrations.listeners;
+	}
+
+	public boolean isEmpty() {
+		return this.registrations.listeners.length == 0;
+	}
+
+	public int size() {
+		return this.registrations.listeners.length;
+	}
+
+	/**
+	 * An immutable list of registrations, with listeners and their handles at the same indices.
+	 */
+	private static final class Registrations {
+		static final Registrations EMPTY = new Registrations(new Object[0], new Object[0]);
+
+		final Object[] listeners;
+		final Object[] handles;
+
+		Registrations(Object[] listeners, Object[] handles) {
+			this.listeners = listeners;
+			this.handles = handles;
+		}
+
+		Registrations with(Object listener, Object handle) {
+			Object[] listeners = Arrays.copyOf(this.listeners, this.listeners.length + 1);
+			Object[] handles = Arrays.copyOf(this.handles, this.handles.length + 1);
+			listeners[this.listeners.length] = listener;
+			handles[this.handles.length] = handle;
+			return new Registrations(listeners, handles);
+		}
+
+		Registrations without(int index) {
+			if (this.listeners.length == 1) {
+				return EMPTY;
+			}
+
+			return new Registrations(removeIndex(this.listeners, index), removeIndex(this.handles, index));
+		}
+
+		private static Object[] removeIndex(Object[] array, int index) {
+			Object[] updated = new Object[array.length - 1];
+			System.arraycopy(array, 0, updated, 0, index);
+			System.arraycopy(array, index + 1, updated, index, array.length - index - 1);
+			return updated;
+		}
+	}
+
+	/**
+	 * A handle identifying a single registration, even if the same listener was registered several times.
+	 */
+	private final class Registration implements ListenerHandle {
+		private final AtomicBoolean removed = new AtomicBoolean();
+
+		@Override
+		public boolean remove() {
+			return this.removed.compareAndSet(false, true) && ListenerList.this.removeRegistration(this);
+		}
+	}
+}
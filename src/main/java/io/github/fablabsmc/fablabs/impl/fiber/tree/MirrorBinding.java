@@ -0,0 +1,62 @@
+package io.github.fablabsmc.fablabs.impl.fiber.tree;
+
+import java.lang.ref.WeakReference;
+import java.util.function.BiConsumer;
+
+import javax.annotation.Nullable;
+
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigLeaf;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ListenerHandle;
+
+/**
+ * A change listener forwarding updates of a leaf to a mirror, without keeping the mirror reachable.
+ *
+ * <p>Mirrors remove their binding when they are pointed to another property. Bindings of mirrors
+ * that were garbage collected instead remove themselves the next time the leaf notifies them,
+ * so that abandoned mirrors do not accumulate in the leaf's listeners.
+ *
+ * @param <T> the type of values held by the leaf
+ * @param <M> the type of the bound mirror
+ */
+final class MirrorBinding<T, M> implements BiConsumer<T, T> {
+	private final WeakReference<M> mirror;
+	private final ConfigLeaf<T> leaf;
+	private final BiConsumer<M, ConfigLeaf<T>> update;
+	@Nullable
+	private volatile ListenerHandle handle;
+
+	private MirrorBinding(M mirror, ConfigLeaf<T> leaf, BiConsumer<M, ConfigLeaf<T>> update) {
+		this.mirror = new WeakReference<>(mirror);
+		this.leaf = leaf;
+		this.update = update;
+	}
+
+	/**
+	 * Registers a binding between a mirror and a leaf.
+	 *
+	 * <p>{@code update} must not capture {@code mirror}, as that would keep it strongly reachable from the leaf.
+	 *
+	 * @param mirror the mirror to notify
+	 * @param leaf   the leaf to listen to
+	 * @param update the action to run with the mirror and the leaf when the leaf's value changes
+	 * @return a handle that unregisters the binding
+	 */
+	static <T, M> ListenerHandle bind(M mirror, ConfigLeaf<T> leaf, BiConsumer<M, ConfigLeaf<T>> update) {
+		MirrorBinding<T, M> binding = new MirrorBinding<>(mirror, leaf, update);
+		ListenerHandle handle = leaf.addChangeListenerHandle(binding);
+		binding.handle = handle;
+		return handle;
+	}
+
+	@Override
+	public void accept(T oldValue, T newValue) {
+		M mirror = this.mirror.get();
+
+		if (mirror != null) {
+			this.update.accept(mirror, this.leaf);
+		} else {
+			ListenerHandle handle = this.handle;
+			if (handle != null) handle.remove();
+		}
+	}
+}
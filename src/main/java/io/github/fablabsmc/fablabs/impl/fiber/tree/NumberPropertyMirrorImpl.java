@@ -0,0 +1,253 @@
+package io.github.fablabsmc.fablabs.impl.fiber.tree;
+
+import java.math.BigDecimal;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.DecimalSerializableType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.derived.NumberConfigType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigLeaf;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ListenerHandle;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.NumberPropertyMirror;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.Property;
+
+/**
+ * The default {@link NumberPropertyMirror} implementation.
+ *
+ * <p>When the delegate is a {@link ConfigLeaf}, a change listener pushes the primitive forms
+ * of every new value into an immutable holder. Other delegates are read on every call.
+ * The listener is a {@link MirrorBinding}, removed when the mirror is rebound or garbage collected.
+ * The boxed runtime value is converted once per distinct delegate value.
+ *
+ * <p>When the delegate is a leaf created through Fiber's builders, primitive writes are checked against the
+ * leaf's constraints with primitive arithmetic where possible, and skipped if the leaf already holds the
+ * written value. Only values that need correcting go through {@link ConfigLeaf#setValue(Object)}.
+ */
+public final class NumberPropertyMirrorImpl<T> implements NumberPropertyMirror<T> {
+	private final NumberConfigType<T> mirroredType;
+	@Nullable
+	private volatile Property<BigDecimal> delegate;
+	@Nullable
+	private volatile ConfigLeaf<BigDecimal> pushingLeaf;
+	/**
+	 * The delegate, if primitive writes can be checked without going through {@link ConfigLeaf#setValue(Object)}.
+	 */
+	@Nullable
+	private volatile ConfigLeafImpl<BigDecimal> checkedLeaf;
+	@Nullable
+	private ListenerHandle listenerHandle;
+	/**
+	 * Whether the delegate only ever holds values satisfying the mirrored type's constraints.
+	 */
+	private volatile boolean trusted;
+	@Nullable
+	private volatile Pushed pushed;
+	@Nullable
+	private volatile Converted<T> converted;
+
+	public NumberPropertyMirrorImpl(NumberConfigType<T> mirroredType) {
+		this.mirroredType = mirroredType;
+	}
+
+	@Override
+	public synchronized void mirror(Property<?> delegate) {
+		if (!BigDecimal.class.equals(delegate.getType())) {
+			throw new IllegalArgumentException("Unsupported delegate type " + delegate.getType() + ", should be " + BigDecimal.class);
+		}
+
+		@SuppressWarnings("unchecked") Property<BigDecimal> d = (Property<BigDecimal>) delegate;
+
+		if (this.listenerHandle != null) {
+			this.listenerHandle.remove();
+			this.listenerHandle = null;
+		}
+
+		this.pushingLeaf = null;
+		this.pushed = null;
+		this.checkedLeaf = null;
+		this.trusted = false;
+		this.delegate = d;
+
+		if (d instanceof ConfigLeaf) {
+			ConfigLeaf<BigDecimal> leaf = (ConfigLeaf<BigDecimal>) d;
+			this.trusted = this.mirroredType.getSerializedType().isAssignableFrom(leaf.getConfigType());
+			this.listenerHandle = MirrorBinding.bind(this, leaf, NumberPropertyMirrorImpl::update);
+			this.push(leaf);
+			this.pushingLeaf = leaf;
+
+			if (leaf instanceof ConfigLeafImpl && leaf.getConfigType() instanceof DecimalSerializableType) {
+				this.checkedLeaf = (ConfigLeafImpl<BigDecimal>) leaf;
+			}
+		}
+	}
+
+	private synchronized void update(ConfigLeaf<BigDecimal> leaf) {
+		// a notification from a previous delegate may still be in flight after rebinding
+		if (leaf == this.pushingLeaf) {
+			this.push(leaf);
+		}
+	}
+
+	private void push(ConfigLeaf<BigDecimal> leaf) {
+		// re-read the leaf rather than trusting the notified value, in case notifications from concurrent writes get reordered
+		this.pushed = new Pushed(leaf.getValue());
+	}
+
+	private Property<BigDecimal> getDelegate() {
+		Property<BigDecimal> delegate = this.delegate;
+		if (delegate == null) throw new IllegalStateException("No delegate property set for this mirror");
+		return delegate;
+	}
+
+	@Override
+	public Property<?> getMirrored() {
+		return this.delegate;
+	}
+
+	@Override
+	public long getModificationStamp() {
+		Property<?> delegate = this.delegate;
+		return delegate == null ? -1 : delegate.getModificationStamp();
+	}
+
+	@Override
+	public int getInt() {
+		Pushed pushed = this.pushed;
+		return pushed != null ? pushed.intValue : this.getDelegate().getValue().intValue();
+	}
+
+	@Override
+	public long getLong() {
+		Pushed pushed = this.pushed;
+		return pushed != null ? pushed.longValue : this.getDelegate().getValue().longValue();
+	}
+
+	@Override
+	public double getDouble() {
+		Pushed pushed = this.pushed;
+		return pushed != null ? pushed.doubleValue : this.getDelegate().getValue().doubleValue();
+	}
+
+	@Override
+	public boolean setInt(int value) {
+		return this.setLong(value);
+	}
+
+	@Override
+	public boolean setLong(long value) {
+		ConfigLeafImpl<BigDecimal> leaf = this.checkedLeaf;
+
+		if (leaf != null) {
+			Pushed pushed = this.pushed;
+
+			// the holder is only current if it was computed from the leaf's current value
+			if (pushed != null && pushed.source == leaf.getValue() && pushed.exactLong && pushed.longValue == value) {
+				return true;
+			}
+
+			if (((DecimalSerializableType) leaf.getConfigType()).acceptsLong(value)) {
+				leaf.setCheckedValue(BigDecimal.valueOf(value));
+				return true;
+			}
+		}
+
+		return this.getDelegate().setValue(BigDecimal.valueOf(value));
+	}
+
+	@Override
+	public boolean setDouble(double value) {
+		ConfigLeafImpl<BigDecimal> leaf = this.checkedLeaf;
+
+		if (leaf != null) {
+			Pushed pushed = this.pushed;
+
+			if (pushed != null && pushed.source == leaf.getValue() && pushed.exactDouble && pushed.doubleValue == value) {
+				return true;
+			}
+
+			if (Double.isFinite(value) && ((DecimalSerializableType) leaf.getConfigType()).acceptsDouble(value)) {
+				leaf.setCheckedValue(BigDecimal.valueOf(value));
+				return true;
+			}
+		}
+
+		return this.getDelegate().setValue(BigDecimal.valueOf(value));
+	}
+
+	@Override
+	public boolean setValue(@Nonnull T value) {
+		return this.getDelegate().setValue(this.mirroredType.toPlatformType(value));
+	}
+
+	@Override
+	public boolean accepts(@Nonnull T value) {
+		return this.getDelegate().accepts(this.mirroredType.toPlatformType(value));
+	}
+
+	@Nonnull
+	@Override
+	public T getValue() {
+		BigDecimal serializedValue = this.getDelegate().getValue();
+		Converted<T> converted = this.converted;
+
+		if (converted == null || converted.source != serializedValue) {
+			T value = this.trusted ? this.mirroredType.toRuntimeTypeUnchecked(serializedValue) : this.mirroredType.toRuntimeType(serializedValue);
+			converted = new Converted<>(serializedValue, value);
+			this.converted = converted;
+		}
+
+		return converted.value;
+	}
+
+	@Override
+	public Class<T> getType() {
+		return this.mirroredType.getRuntimeType();
+	}
+
+	@Override
+	public NumberConfigType<T> getMirroredType() {
+		return this.mirroredType;
+	}
+
+	/**
+	 * The primitive forms of a leaf value.
+	 */
+	private static final class Pushed {
+		private static final BigDecimal LONG_MIN = BigDecimal.valueOf(Long.MIN_VALUE);
+		private static final BigDecimal LONG_MAX = BigDecimal.valueOf(Long.MAX_VALUE);
+
+		final BigDecimal source;
+		final int intValue;
+		final long longValue;
+		final double doubleValue;
+		/**
+		 * Whether {@link #source} is exactly {@link #longValue}.
+		 */
+		final boolean exactLong;
+		/**
+		 * Whether {@link #source} is numerically equal to {@code BigDecimal.valueOf(doubleValue)}.
+		 */
+		final boolean exactDouble;
+
+		Pushed(BigDecimal source) {
+			this.source = source;
+			this.intValue = source.intValue();
+			this.longValue = source.longValue();
+			this.doubleValue = source.doubleValue();
+			this.exactLong = (source.scale() <= 0 || source.stripTrailingZeros().scale() <= 0)
+					&& source.compareTo(LONG_MIN) >= 0 && source.compareTo(LONG_MAX) <= 0;
+			this.exactDouble = Double.isFinite(this.doubleValue) && BigDecimal.valueOf(this.doubleValue).compareTo(source) == 0;
+		}
+	}
+
+	private static final class Converted<T> {
+		final BigDecimal source;
+		final T value;
+
+		Converted(BigDecimal source, T value) {
+			this.source = source;
+			this.value = value;
+		}
+	}
+}
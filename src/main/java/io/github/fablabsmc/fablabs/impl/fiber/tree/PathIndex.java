@@ -0,0 +1,64 @@
+package io.github.fablabsmc.fablabs.impl.fiber.tree;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigNode;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigTree;
+
+/**
+ * Maps the paths of every descendant of a branch to the corresponding node.
+ *
+ * <p>Paths are relative to the indexed branch, and exclude its own name.
+ */
+final class PathIndex {
+	private final Map<List<String>, ConfigNode> nodes = new HashMap<>();
+
+	@Nullable
+	ConfigNode get(List<String> path) {
+		return this.nodes.get(path);
+	}
+
+	/**
+	 * Adds a node and all of its descendants to this index.
+	 *
+	 * @param path the path to the node, relative to the indexed branch
+	 * @param node the node to add
+	 */
+	void add(List<String> path, ConfigNode node) {
+		this.nodes.put(path, node);
+
+		if (node instanceof ConfigTree) {
+			for (ConfigNode child : ((ConfigTree) node).getItems()) {
+				this.add(append(path, child.getName()), child);
+			}
+		}
+	}
+
+	/**
+	 * Removes a node and all of its descendants from this index.
+	 *
+	 * @param path the path to the node, relative to the indexed branch
+	 * @param node the node to remove
+	 */
+	void remove(List<String> path, ConfigNode node) {
+		this.nodes.remove(path, node);
+
+		if (node instanceof ConfigTree) {
+			for (ConfigNode child : ((ConfigTree) node).getItems()) {
+				this.remove(append(path, child.getName()), child);
+			}
+		}
+	}
+
+	private static List<String> append(List<String> path, String name) {
+		List<String> ret = new ArrayList<>(path.size() + 1);
+		ret.addAll(path);
+		ret.add(name);
+		return ret;
+	}
+}
@@ -10,13 +10,24 @@ import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigLeaf;
 import io.github.fablabsmc.fablabs.api.fiber.v1.tree.Property;
 import io.github.fablabsmc.fablabs.api.fiber.v1.tree.PropertyMirror;
 
+/**
+ * The default {@link PropertyMirror} implementation.
+ *
+ * <p>The converted runtime value is cached along with the {@linkplain Property#getModificationStamp() modification stamp}
+ * of the delegate it was converted from, and reused as long as the stamp is unchanged. Delegates that do not track
+ * modifications are compared by identity, then by equality. The cache is published through a single volatile
+ * field, making mirrors safe to read from multiple threads.
+ */
 public final class PropertyMirrorImpl<R, S> implements PropertyMirror<R> {
-	protected Property<S> delegate;
-	protected ConfigType<R, S, ?> mirroredType;
+	protected final ConfigType<R, S, ?> mirroredType;
 	@Nullable
-	private S lastSerializedValue;
+	protected volatile Property<S> delegate;
+	/**
+	 * Whether the delegate only ever holds values satisfying the mirrored type's constraints.
+	 */
+	private volatile boolean trusted;
 	@Nullable
-	private R cachedValue;
+	private volatile Converted<S, R> converted;
 
 	public PropertyMirrorImpl(ConfigType<R, S, ?> mirroredType) {
 		this.mirroredType = mirroredType;
@@ -37,16 +48,15 @@ public final class PropertyMirrorImpl<R, S> implements PropertyMirror<R> {
 		}
 
 		@SuppressWarnings("unchecked") Property<S> d = (Property<S>) delegate;
+		this.trusted = d instanceof ConfigLeaf && this.mirroredType.getSerializedType().isAssignableFrom(((ConfigLeaf<S>) d).getConfigType());
+		this.converted = null;
 		this.delegate = d;
+	}
 
-		if (d instanceof ConfigLeaf) {
-			// passive invalidation
-			((ConfigLeaf<S>) d).addChangeListener((old, cur) -> this.cachedValue = null);
-			this.lastSerializedValue = null;
-		} else {
-			// active invalidation, less efficient
-			this.lastSerializedValue = d.getValue();
-		}
+	private Property<S> getDelegate() {
+		Property<S> delegate = this.delegate;
+		if (delegate == null) throw new IllegalStateException("No delegate property set for this mirror");
+		return delegate;
 	}
 
 	@Override
@@ -54,33 +64,43 @@ public final class PropertyMirrorImpl<R, S> implements PropertyMirror<R> {
 		return this.delegate;
 	}
 
+	@Override
+	public long getModificationStamp() {
+		Property<S> delegate = this.delegate;
+		return delegate == null ? -1 : delegate.getModificationStamp();
+	}
+
 	@Override
 	public boolean setValue(@Nonnull R value) {
-		if (this.delegate == null) throw new IllegalStateException("No delegate property set for this mirror");
-		return this.delegate.setValue(this.mirroredType.toPlatformType(value));
+		return this.getDelegate().setValue(this.mirroredType.toPlatformType(value));
 	}
 
 	@Override
 	public boolean accepts(@Nonnull R value) {
-		if (this.delegate == null) throw new IllegalStateException("No delegate property set for this mirror");
-		return this.delegate.accepts(this.mirroredType.toPlatformType(value));
+		return this.getDelegate().accepts(this.mirroredType.toPlatformType(value));
 	}
 
 	@Nonnull
 	@Override
 	public R getValue() {
-		if (this.delegate == null) throw new IllegalStateException("No delegate property set for this mirror");
+		Property<S> delegate = this.getDelegate();
+		// the stamp must be read before the value, so that a concurrent write can only cause a spurious miss
+		long stamp = delegate.getModificationStamp();
+		Converted<S, R> converted = this.converted;
+
+		if (converted != null && converted.delegate == delegate && stamp >= 0 && converted.stamp == stamp) {
+			return converted.value;
+		}
 
-		if (this.cachedValue == null || this.lastSerializedValue != null) {
-			S serializedValue = this.delegate.getValue();
+		S serializedValue = delegate.getValue();
 
-			if (cachedValue == null || !Objects.equals(this.lastSerializedValue, serializedValue)) {
-				this.cachedValue = this.mirroredType.toRuntimeType(serializedValue);
-				this.lastSerializedValue = serializedValue;
-			}
+		if (converted == null || converted.delegate != delegate || stamp >= 0 || (converted.source != serializedValue && !Objects.equals(converted.source, serializedValue))) {
+			R value = this.trusted ? this.mirroredType.toRuntimeTypeUnchecked(serializedValue) : this.mirroredType.toRuntimeType(serializedValue);
+			converted = new Converted<>(delegate, stamp, serializedValue, value);
+			this.converted = converted;
 		}
 
-		return this.cachedValue;
+		return converted.value;
 	}
 
 	@Override
@@ -92,4 +112,18 @@ public final class PropertyMirrorImpl<R, S> implements PropertyMirror<R> {
 	public ConfigType<R, S, ?> getMirroredType() {
 		return this.mirroredType;
 	}
+
+	private static final class Converted<S, R> {
+		final Property<S> delegate;
+		final long stamp;
+		final S source;
+		final R value;
+
+		Converted(Property<S> delegate, long stamp, S source, R value) {
+			this.delegate = delegate;
+			this.stamp = stamp;
+			this.source = source;
+			this.value = value;
+		}
+	}
 }
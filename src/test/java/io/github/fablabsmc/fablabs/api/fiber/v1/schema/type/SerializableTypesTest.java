@@ -1,11 +1,22 @@
 package io.github.fablabsmc.fablabs.api.fiber.v1.schema.type;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.derived.ConfigTypes;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -46,4 +57,115 @@ class SerializableTypesTest {
 		assertTrue(typeF.isAssignableFrom(typeG));
 		assertTrue(typeG.isAssignableFrom(typeF));
 	}
+
+	@DisplayName("Test allocation-free type checks")
+	@Test
+	void testCheck() {
+		DecimalSerializableType type = new DecimalSerializableType(BigDecimal.ZERO, BigDecimal.TEN, null);
+		assertSame(TypeCheckResult.passed(), type.check(BigDecimal.ONE));
+		assertNull(type.check(BigDecimal.ONE).getCorrectedValueOrNull());
+		assertEquals(BigDecimal.ONE, type.test(BigDecimal.ONE).getCorrectedValueOrNull());
+		assertFalse(type.check(BigDecimal.valueOf(20)).hasPassed());
+		assertEquals(BigDecimal.TEN, type.check(BigDecimal.valueOf(20)).getCorrectedValueOrNull());
+
+		ListSerializableType<BigDecimal> listType = ConfigTypes.makeList(ConfigTypes.INTEGER.withValidRange(0, 10, 1)).getSerializedType();
+		List<BigDecimal> valid = Arrays.asList(BigDecimal.ONE, BigDecimal.TEN);
+		assertSame(TypeCheckResult.passed(), listType.check(valid));
+		assertSame(valid, listType.test(valid).getCorrectedValueOrNull());
+		assertEquals(valid, listType.check(Arrays.asList(BigDecimal.ONE, BigDecimal.valueOf(11))).getCorrectedValueOrNull());
+	}
+
+	@DisplayName("Test shallow casts of composite types")
+	@Test
+	void testCompositeCast() {
+		ListSerializableType<BigDecimal> listType = ConfigTypes.makeList(ConfigTypes.INTEGER).getSerializedType();
+		@SuppressWarnings("unchecked") List<BigDecimal> invalid = (List<BigDecimal>) (List<?>) Arrays.asList(BigDecimal.ONE, "2");
+		assertSame(invalid, listType.cast(invalid));
+		assertThrows(ClassCastException.class, () -> listType.check(invalid));
+		assertThrows(ClassCastException.class, () -> listType.cast("not a list"));
+	}
+
+	@DisplayName("Test collection corrections")
+	@Test
+	void testCollectionCorrections() {
+		DecimalSerializableType element = new DecimalSerializableType(BigDecimal.ZERO, BigDecimal.TEN, null);
+		ListSerializableType<BigDecimal> uniqueType = new ListSerializableType<>(element, 0, 3, true);
+		List<BigDecimal> values = Arrays.asList(BigDecimal.ONE, BigDecimal.ONE, BigDecimal.valueOf(20), BigDecimal.ZERO, BigDecimal.TEN);
+		assertEquals(Arrays.asList(BigDecimal.ONE, BigDecimal.TEN, BigDecimal.ZERO), uniqueType.check(values).getCorrectedValueOrNull());
+		assertSame(TypeCheckResult.passed(), uniqueType.check(values.subList(2, 5).subList(1, 3)));
+
+		MapSerializableType<BigDecimal> mapType = new MapSerializableType<>(StringSerializableType.DEFAULT_STRING, element);
+		Map<String, BigDecimal> map = new LinkedHashMap<>();
+		map.put("a", BigDecimal.ONE);
+		map.put("b", BigDecimal.valueOf(-1));
+		map.put("c", BigDecimal.TEN);
+		assertSame(TypeCheckResult.passed(), mapType.check(Collections.singletonMap("a", BigDecimal.ONE)));
+		Map<String, BigDecimal> corrected = mapType.check(map).getCorrectedValueOrNull();
+		assertEquals(Arrays.asList("a", "b", "c"), new ArrayList<>(corrected.keySet()));
+		assertEquals(BigDecimal.ZERO, corrected.get("b"));
+	}
+
+	@DisplayName("Test type interning")
+	@Test
+	void testIntern() {
+		ListSerializableType<BigDecimal> a = new ListSerializableType<>(new DecimalSerializableType(BigDecimal.ZERO, null, null));
+		ListSerializableType<BigDecimal> b = new ListSerializableType<>(new DecimalSerializableType(BigDecimal.ZERO, null, null));
+		assertEquals(a, b);
+		assertEquals(a.hashCode(), b.hashCode());
+		assertSame(SerializableType.intern(a), SerializableType.intern(b));
+		assertSame(ConfigTypes.makeList(ConfigTypes.NATURAL).getSerializedType(), ConfigTypes.makeList(ConfigTypes.NATURAL).getSerializedType());
+
+		MapSerializableType<BigDecimal> unconstrainedKeys = new MapSerializableType<>(a.getElementType());
+		MapSerializableType<BigDecimal> constrainedKeys = new MapSerializableType<>(new StringSerializableType(1, 3, null), a.getElementType());
+		assertFalse(unconstrainedKeys.equals(constrainedKeys));
+
+		// declaration order is observable, and must survive interning
+		EnumSerializableType abc = SerializableType.intern(new EnumSerializableType("a", "b", "c"));
+		EnumSerializableType cba = SerializableType.intern(new EnumSerializableType("c", "b", "a"));
+		assertNotEquals(abc, cba);
+		assertEquals(Arrays.asList("c", "b", "a"), new ArrayList<>(cba.getValidValues()));
+		Map<String, SerializableType<?>> fields = new LinkedHashMap<>();
+		fields.put("x", abc);
+		fields.put("y", cba);
+		Map<String, SerializableType<?>> reversed = new LinkedHashMap<>();
+		reversed.put("y", cba);
+		reversed.put("x", abc);
+		assertNotEquals(new RecordSerializableType(fields), new RecordSerializableType(reversed));
+		assertEquals(Arrays.asList("y", "x"), new ArrayList<>(SerializableType.intern(new RecordSerializableType(reversed)).getFields().keySet()));
+	}
+
+	@DisplayName("Test assignability cache")
+	@Test
+	void testAssignabilityCache() {
+		DecimalSerializableType to = new DecimalSerializableType(BigDecimal.ZERO, BigDecimal.valueOf(100), null);
+		DecimalSerializableType narrower = new DecimalSerializableType(BigDecimal.ZERO, BigDecimal.valueOf(50), null);
+		DecimalSerializableType wider = null;
+
+		// find a non-assignable type sharing the same cache slot
+		for (int i = 0; wider == null; i++) {
+			DecimalSerializableType candidate = new DecimalSerializableType(BigDecimal.ZERO, BigDecimal.valueOf(1000 + i), null);
+
+			if (SerializableType.assignabilityIndex(to, candidate) == SerializableType.assignabilityIndex(to, narrower)) {
+				wider = candidate;
+			}
+		}
+
+		// miss, then hit
+		assertNull(SerializableType.cachedAssignability(to, narrower));
+		assertTrue(to.isAssignableFrom(narrower));
+		assertEquals(Boolean.TRUE, SerializableType.cachedAssignability(to, narrower));
+		assertTrue(to.isAssignableFrom(narrower));
+		assertEquals(Boolean.TRUE, SerializableType.cachedAssignability(to, narrower));
+
+		// a colliding pair evicts the entry instead of reusing its result
+		assertFalse(to.isAssignableFrom(wider));
+		assertEquals(Boolean.FALSE, SerializableType.cachedAssignability(to, wider));
+		assertNull(SerializableType.cachedAssignability(to, narrower));
+		assertTrue(to.isAssignableFrom(narrower));
+		assertNull(SerializableType.cachedAssignability(to, wider));
+
+		// the reverse direction is a different entry
+		assertFalse(narrower.isAssignableFrom(to));
+		assertTrue(wider.isAssignableFrom(to));
+	}
 }
@@ -3,6 +3,7 @@ package io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.derived;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -10,6 +11,7 @@ import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -17,6 +19,7 @@ import io.github.fablabsmc.fablabs.api.fiber.v1.builder.ConfigLeafBuilder;
 import io.github.fablabsmc.fablabs.api.fiber.v1.exception.FiberConversionException;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.DecimalSerializableType;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.ListSerializableType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.NumericArrayList;
 import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigLeaf;
 import io.github.fablabsmc.fablabs.api.fiber.v1.tree.PropertyMirror;
 import org.junit.jupiter.api.Assertions;
@@ -92,6 +95,35 @@ class ConfigTypesTest {
 		assertThrows(FiberConversionException.class, () -> type.toRuntimeType(err), "Convert List<overflowed> -> int[]");
 	}
 
+	@Test
+	@DisplayName("Test primitive-backed numeric arrays")
+	void testPrimitiveArray() {
+		ListConfigType<long[], BigDecimal> longs = ConfigTypes.makeLongArray(ConfigTypes.LONG);
+		long[] arr = {Long.MIN_VALUE, -1, 0, Long.MAX_VALUE};
+		List<BigDecimal> ls = longs.toSerializedType(arr);
+		assertTrue(ls instanceof NumericArrayList);
+		assertEquals(Arrays.stream(arr).mapToObj(BigDecimal::valueOf).collect(Collectors.toList()), ls);
+		assertArrayEquals(arr, longs.toRuntimeType(ls));
+		assertTrue(longs.getSerializedType().accepts(ls));
+
+		ListConfigType<double[], BigDecimal> doubles = ConfigTypes.makeDoubleArray(ConfigTypes.DOUBLE.withValidRange(0.0, 1.0, 0.25));
+		assertTrue(doubles.getSerializedType().accepts(NumericArrayList.wrap(new double[] {0.0, 0.25, 1.0})));
+		assertFalse(doubles.getSerializedType().accepts(NumericArrayList.wrap(new double[] {0.0, 1.5})));
+		ListSerializableType<BigDecimal> bounded = ConfigTypes.makeDoubleArray(ConfigTypes.DOUBLE.withMinimum(0.0).withMaximum(1.0)).getSerializedType();
+		assertTrue(bounded.accepts(NumericArrayList.wrap(new double[] {0.0, 0.3, 1.0})));
+		assertFalse(bounded.accepts(NumericArrayList.wrap(new double[] {0.3, -Double.MIN_VALUE})));
+
+		ListConfigType<float[], BigDecimal> floats = ConfigTypes.makeFloatArray(ConfigTypes.FLOAT);
+		float[] floatArr = {0.1f, -3.5f, 1e20f};
+		assertArrayEquals(floatArr, floats.toRuntimeType(floats.toSerializedType(floatArr)));
+
+		ListConfigType<byte[], BigDecimal> bytes = ConfigTypes.makeByteArray(ConfigTypes.BYTE);
+		assertFalse(bytes.getSerializedType().accepts(NumericArrayList.wrap(new long[] {1, 200})));
+		assertArrayEquals(new byte[] {1, -128}, bytes.toRuntimeType(NumericArrayList.wrap(new long[] {1, -128})));
+		// derived conversions do not take the primitive path
+		assertFalse(ConfigTypes.makeIntArray(ConfigTypes.INTEGER.derive(Integer.class, i -> -i, i -> -i)).toSerializedType(new int[0]) instanceof NumericArrayList);
+	}
+
 	@Test
 	void testCharArray() {
 		ListConfigType<char[], String> type = ConfigTypes.makeCharArray(ConfigTypes.CHARACTER);
@@ -140,4 +172,25 @@ class ConfigTypesTest {
 		assertFalse(constraint.test(TestEnum.A), "Constrained enum 2 does not accept A");
 		assertTrue(constraint.test(TestEnum.B), "Constrained enum 2 accepts B");
 	}
+
+	@DisplayName("Test lazy list conversion")
+	@Test
+	void testLazyList() {
+		List<String> serialized = Arrays.asList("a", "b");
+		List<String> strings = ConfigTypes.makeList(ConfigTypes.STRING).toRuntimeType(serialized);
+		assertEquals(serialized, strings);
+		assertThrows(UnsupportedOperationException.class, () -> strings.add("c"));
+
+		AtomicInteger conversions = new AtomicInteger();
+		StringConfigType<StringBuilder> builders = ConfigTypes.STRING.derive(StringBuilder.class, s -> {
+			conversions.incrementAndGet();
+			return new StringBuilder(s);
+		}, StringBuilder::toString);
+		List<StringBuilder> converted = ConfigTypes.makeList(builders).toRuntimeType(serialized);
+		assertEquals(0, conversions.get());
+		assertSame(converted.get(1), converted.get(1));
+		assertEquals("b", converted.get(1).toString());
+		assertEquals(1, conversions.get());
+		assertEquals(2, converted.size());
+	}
 }
@@ -0,0 +1,162 @@
+package io.github.fablabsmc.fablabs.api.fiber.v1.serialization;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import io.github.fablabsmc.fablabs.api.fiber.v1.NodeOperationsTest;
+import io.github.fablabsmc.fablabs.api.fiber.v1.exception.ValueDeserializationException;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.DecimalSerializableType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.EnumSerializableType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.RecordSerializableType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.SerializableType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.derived.ConfigTypes;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigBranch;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigLeaf;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigTree;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.PropertyMirror;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BinaryTreeCodecTest {
+	private static final DecimalSerializableType DECIMAL = new DecimalSerializableType(null, null, null);
+	private static final EnumSerializableType MODE = new EnumSerializableType("FAST", "SLOW", "OFF");
+	private static final RecordSerializableType RECORD;
+
+	static {
+		Map<String, SerializableType<?>> fields = new LinkedHashMap<>();
+		fields.put("I", DECIMAL);
+		fields.put("S", ConfigTypes.STRING.getSerializedType());
+		RECORD = new RecordSerializableType(fields);
+	}
+
+	private static ConfigBranch createTree(int seed, PropertyMirror<int[]> ints) {
+		Map<String, Object> record = new LinkedHashMap<>();
+		record.put("I", BigDecimal.valueOf(seed));
+		record.put("S", "record" + seed);
+		return ConfigTree.builder()
+				.withValue("int", ConfigTypes.INTEGER, seed)
+				.withValue("flag", ConfigTypes.BOOLEAN, seed % 2 == 0)
+				.withValue("mode", MODE, seed == 0 ? "FAST" : "OFF")
+				.fork("child")
+				.beginValue("small", DECIMAL, BigDecimal.valueOf(-seed, 2)).finishValue()
+				.beginValue("large", DECIMAL, BigDecimal.valueOf(Long.MAX_VALUE).multiply(BigDecimal.valueOf(seed + 2))).finishValue()
+				.beginValue("ints", ConfigTypes.makeIntArray(ConfigTypes.INTEGER), new int[] {seed, -seed, Integer.MIN_VALUE}).finishValue(ints::mirror)
+				.withValue("strings", ConfigTypes.makeList(ConfigTypes.STRING), Arrays.asList("caf\u00e9", "\ud83d\ude00" + seed))
+				.finishBranch()
+				.withValue("names", ConfigTypes.makeMap(ConfigTypes.STRING, ConfigTypes.INTEGER), Collections.singletonMap("k" + seed, seed))
+				.beginValue("record", RECORD, record).finishValue()
+				.fork("separate").withSeparateSerialization()
+				.withValue("ignored", ConfigTypes.INTEGER, seed)
+				.finishBranch()
+				.build();
+	}
+
+	private static byte[] encode(ConfigTree tree) throws IOException {
+		ByteArrayOutputStream bos = new ByteArrayOutputStream();
+		BinaryTreeCodec.encode(tree, bos);
+		return bos.toByteArray();
+	}
+
+	@Test
+	@DisplayName("Encoded trees decode to the same values")
+	void testRoundTrip() throws IOException, ValueDeserializationException {
+		ConfigTree source = createTree(7, PropertyMirror.create(ConfigTypes.makeIntArray(ConfigTypes.INTEGER)));
+		PropertyMirror<int[]> ints = PropertyMirror.create(ConfigTypes.makeIntArray(ConfigTypes.INTEGER));
+		ConfigTree target = createTree(0, ints);
+		byte[] data = encode(source);
+		BinaryTreeCodec.decode(target, new ByteArrayInputStream(data));
+
+		NodeOperationsTest.testNodeFor(target, "int", ConfigTypes.INTEGER.getSerializedType(), BigDecimal.valueOf(7));
+		NodeOperationsTest.testNodeFor(target, "flag", ConfigTypes.BOOLEAN.getSerializedType(), false);
+		NodeOperationsTest.testNodeFor(target, "mode", MODE, "OFF");
+		ConfigTree child = target.lookupBranch("child");
+		NodeOperationsTest.testNodeFor(child, "small", DECIMAL, new BigDecimal("-0.07"));
+		NodeOperationsTest.testNodeFor(child, "large", DECIMAL, BigDecimal.valueOf(Long.MAX_VALUE).multiply(BigDecimal.valueOf(9)));
+		assertArrayEquals(new int[] {7, -7, Integer.MIN_VALUE}, ints.getValue());
+		assertEquals(Arrays.asList("caf\u00e9", "\ud83d\ude007"), child.lookupLeaf("strings", ConfigTypes.makeList(ConfigTypes.STRING).getSerializedType()).getValue());
+		assertEquals(Collections.singletonMap("k7", BigDecimal.valueOf(7)), target.lookupLeaf("names", ConfigTypes.makeMap(ConfigTypes.STRING, ConfigTypes.INTEGER).getSerializedType()).getValue());
+		assertEquals("record7", target.lookupLeaf("record", RECORD).getValue().get("S"));
+		NodeOperationsTest.testNodeFor(target.lookupBranch("separate"), "ignored", ConfigTypes.INTEGER.getSerializedType(), BigDecimal.ZERO);
+
+		// re-encoding the decoded tree gives the same bytes
+		assertArrayEquals(data, encode(target));
+	}
+
+	@Test
+	@DisplayName("Decoded values are applied before listeners are notified")
+	void testDecodeNotifiesOnce() throws IOException, ValueDeserializationException {
+		byte[] data = encode(createTree(7, PropertyMirror.create(ConfigTypes.makeIntArray(ConfigTypes.INTEGER))));
+		ConfigBranch target = createTree(0, PropertyMirror.create(ConfigTypes.makeIntArray(ConfigTypes.INTEGER)));
+		ConfigLeaf<Boolean> flag = target.lookupLeaf("flag", ConfigTypes.BOOLEAN.getSerializedType());
+		List<Boolean> flagsSeen = new ArrayList<>();
+		List<Set<ConfigLeaf<?>>> changes = new ArrayList<>();
+		// the first leaf in tree order sees the value decoded for a later one
+		target.lookupLeaf("int", ConfigTypes.INTEGER.getSerializedType()).addChangeListener((o, n) -> flagsSeen.add(flag.getValue()));
+		target.addSubtreeListener(changes::add);
+		BinaryTreeCodec.decode(target, new ByteArrayInputStream(data));
+
+		assertEquals(Collections.singletonList(false), flagsSeen);
+		assertEquals(1, changes.size());
+		assertEquals(9, changes.get(0).size());
+	}
+
+	@Test
+	@DisplayName("Encoded trees are smaller than JSON")
+	void testSize() throws IOException {
+		ConfigTree tree = createTree(7, PropertyMirror.create(ConfigTypes.makeIntArray(ConfigTypes.INTEGER)));
+		ByteArrayOutputStream json = new ByteArrayOutputStream();
+		FiberSerialization.serialize(tree, json, new JanksonValueSerializer(true));
+		assertTrue(encode(tree).length * 2 < json.size());
+	}
+
+	@Test
+	@DisplayName("Data from a different structure is rejected")
+	void testFingerprintMismatch() throws IOException {
+		byte[] data = encode(ConfigTree.builder().withValue("a", ConfigTypes.INTEGER, 1).build());
+		ConfigTree renamed = ConfigTree.builder().withValue("b", ConfigTypes.INTEGER, 1).build();
+		ConfigTree retyped = ConfigTree.builder().withValue("a", ConfigTypes.STRING, "1").build();
+		ConfigTree extended = ConfigTree.builder().withValue("a", new EnumSerializableType("FAST", "SLOW", "OFF", "AUTO"), "OFF").build();
+		ConfigTree reordered = ConfigTree.builder().withValue("a", new EnumSerializableType("OFF", "SLOW", "FAST"), "OFF").build();
+
+		assertThrows(ValueDeserializationException.class, () -> BinaryTreeCodec.decode(renamed, new ByteArrayInputStream(data)));
+		assertThrows(ValueDeserializationException.class, () -> BinaryTreeCodec.decode(retyped, new ByteArrayInputStream(data)));
+		assertNotEquals(BinaryTreeCodec.fingerprint(ConfigTree.builder().withValue("a", MODE, "OFF").build()), BinaryTreeCodec.fingerprint(extended));
+		assertNotEquals(BinaryTreeCodec.fingerprint(ConfigTree.builder().withValue("a", MODE, "OFF").build()), BinaryTreeCodec.fingerprint(reordered));
+		assertEquals(BinaryTreeCodec.fingerprint(createTree(1, PropertyMirror.create(ConfigTypes.makeIntArray(ConfigTypes.INTEGER)))),
+				BinaryTreeCodec.fingerprint(createTree(2, PropertyMirror.create(ConfigTypes.makeIntArray(ConfigTypes.INTEGER)))));
+	}
+
+	@Test
+	@DisplayName("Malformed data is rejected without changing the tree")
+	void testMalformedData() throws IOException {
+		byte[] data = encode(createTree(7, PropertyMirror.create(ConfigTypes.makeIntArray(ConfigTypes.INTEGER))));
+		ConfigTree target = createTree(0, PropertyMirror.create(ConfigTypes.makeIntArray(ConfigTypes.INTEGER)));
+		// the body length is a single byte following the fingerprint
+		byte[] truncated = Arrays.copyOf(data, data.length - 3);
+		truncated[8] -= 3;
+		byte[] badEnum = data.clone();
+		// int, then flag, then the enum ordinal in declaration order
+		assertEquals(2, badEnum[11]);
+		badEnum[11] = 5;
+
+		assertThrows(IOException.class, () -> BinaryTreeCodec.decode(target, new ByteArrayInputStream(data, 0, data.length - 1)));
+		assertThrows(ValueDeserializationException.class, () -> BinaryTreeCodec.decode(target, new ByteArrayInputStream(truncated)));
+		assertThrows(ValueDeserializationException.class, () -> BinaryTreeCodec.decode(target, new ByteArrayInputStream(badEnum)));
+		NodeOperationsTest.testNodeFor(target, "int", ConfigTypes.INTEGER.getSerializedType(), BigDecimal.ZERO);
+	}
+}
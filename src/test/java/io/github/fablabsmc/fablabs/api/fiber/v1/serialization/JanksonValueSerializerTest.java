@@ -1,26 +1,38 @@
 package io.github.fablabsmc.fablabs.api.fiber.v1.serialization;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 
+import blue.endless.jankson.JsonArray;
+import blue.endless.jankson.JsonObject;
+import blue.endless.jankson.JsonPrimitive;
 import io.github.fablabsmc.fablabs.api.fiber.v1.NodeOperationsTest;
 import io.github.fablabsmc.fablabs.api.fiber.v1.builder.ConfigTreeBuilder;
 import io.github.fablabsmc.fablabs.api.fiber.v1.exception.FiberException;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.NumericArrayList;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.RecordSerializableType;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.SerializableType;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.derived.ConfigType;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.derived.ConfigTypes;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.derived.ListConfigType;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.derived.NumberConfigType;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.derived.RecordConfigType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigLeaf;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigSnapshot;
 import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigTree;
 import io.github.fablabsmc.fablabs.api.fiber.v1.tree.PropertyMirror;
 import org.junit.jupiter.api.DisplayName;
@@ -71,6 +83,33 @@ class JanksonValueSerializerTest {
 		assertEquals("{ \"A\": [ 10 ] }", bos.toString("UTF-8"));
 	}
 
+	@Test
+	@DisplayName("int[] -> int[]")
+	void nodeSerializationIntArray() throws IOException, FiberException {
+		ByteArrayOutputStream bos = new ByteArrayOutputStream();
+		JanksonValueSerializer jk = new JanksonValueSerializer(true);
+		ListConfigType<int[], BigDecimal> cfgType = ConfigTypes.makeIntArray(ConfigTypes.INTEGER);
+		PropertyMirror<int[]> mirror = PropertyMirror.create(cfgType);
+		ConfigTree nodeOne = ConfigTree.builder()
+				.withValue("A", cfgType, new int[] {1, -2, Integer.MAX_VALUE})
+				.build();
+
+		ConfigTree nodeTwo = ConfigTree.builder()
+				.beginValue("A", cfgType, new int[0])
+				.finishValue(mirror::mirror)
+				.build();
+
+		FiberSerialization.serialize(nodeOne, bos, jk);
+		FiberSerialization.deserialize(nodeTwo, new ByteArrayInputStream(bos.toByteArray()), jk);
+		assertTrue(nodeTwo.lookupLeaf("A", cfgType.getSerializedType()).getValue() instanceof NumericArrayList);
+		assertArrayEquals(new int[] {1, -2, Integer.MAX_VALUE}, mirror.getValue());
+		assertEquals("{ \"A\": [ 1, -2, 2147483647 ] }", bos.toString("UTF-8"));
+
+		// non-integral input falls back to the generic path
+		FiberSerialization.deserialize(nodeTwo, new ByteArrayInputStream("{ \"A\": [ 1.0, 3 ] }".getBytes(StandardCharsets.UTF_8)), jk);
+		assertArrayEquals(new int[] {1, 3}, mirror.getValue());
+	}
+
 	@Test
 	@DisplayName("Map<Integer> -> Map<Integer>")
 	void nodeSerializationMap() throws IOException, FiberException {
@@ -221,4 +260,126 @@ class JanksonValueSerializerTest {
 		NodeOperationsTest.testNodeFor(childTwo, "A", ConfigTypes.INTEGER.getSerializedType(), BigDecimal.valueOf(20));
 		assertEquals("{ }", bos.toString("UTF-8"));
 	}
+
+	@Test
+	@DisplayName("Buffered writes match Jankson's text")
+	void writeTargetBuffered() throws IOException {
+		JsonObject child = new JsonObject();
+		child.put("text", new JsonPrimitive("caf\u00e9 \u20ac \ud83d\ude00 \ud800!"));
+		child.put("flag", JsonPrimitive.TRUE);
+		JsonArray array = new JsonArray();
+		array.add(new JsonPrimitive(1L));
+		array.add(new JsonPrimitive(new BigDecimal("2.50")));
+		JsonObject target = new JsonObject();
+		target.put("child", child);
+		target.setComment("child", "A branch");
+		target.put("array", array);
+		target.setComment("array", "An array");
+		// small enough to force many drains, and reused across writes
+		byte[] buffer = new byte[5];
+
+		for (boolean minify : new boolean[] {false, true}) {
+			JanksonValueSerializer jk = new JanksonValueSerializer(minify);
+			ByteArrayOutputStream bos = new ByteArrayOutputStream();
+			jk.writeTarget(target, bos, buffer);
+			assertArrayEquals(target.toJson(!minify, !minify).getBytes(StandardCharsets.UTF_8), bos.toByteArray());
+		}
+	}
+
+	@Test
+	@DisplayName("Only dirty leaves are serialized")
+	void serializeDirty() throws IOException {
+		JanksonValueSerializer jk = new JanksonValueSerializer(true);
+		ConfigTree tree = ConfigTree.builder()
+				.withValue("A", ConfigTypes.INTEGER, 1)
+				.fork("child")
+				.withValue("B", ConfigTypes.INTEGER, 2)
+				.withValue("C", ConfigTypes.INTEGER, 3)
+				.finishBranch()
+				.build();
+
+		ByteArrayOutputStream bos = new ByteArrayOutputStream();
+		assertTrue(FiberSerialization.serializeIfDirty(tree, bos, jk));
+		assertEquals("{ \"A\": 1, \"child\": { \"B\": 2, \"C\": 3 } }", bos.toString("UTF-8"));
+		assertFalse(FiberSerialization.serializeIfDirty(tree, bos, jk));
+		assertFalse(FiberSerialization.serializeDirty(tree, bos, jk));
+
+		tree.lookupBranch("child").lookupLeaf("C", ConfigTypes.INTEGER.getSerializedType()).setValue(BigDecimal.TEN);
+		bos.reset();
+		assertTrue(FiberSerialization.serializeDirty(tree, bos, jk));
+		assertEquals("{ \"child\": { \"C\": 10 } }", bos.toString("UTF-8"));
+		assertFalse(FiberSerialization.serializeIfDirty(tree, bos, jk));
+	}
+
+	@Test
+	@DisplayName("Snapshots are serialized with the values they captured")
+	void serializeSnapshot() throws IOException {
+		JanksonValueSerializer jk = new JanksonValueSerializer(true);
+		ConfigTree tree = ConfigTree.builder()
+				.withValue("A", ConfigTypes.INTEGER, 1)
+				.fork("child")
+				.withValue("B", ConfigTypes.STRING, "b")
+				.finishBranch()
+				.fork("separate").withSeparateSerialization()
+				.withValue("C", ConfigTypes.INTEGER, 3)
+				.finishBranch()
+				.build();
+		ConfigSnapshot snapshot = ConfigSnapshot.of(tree);
+		tree.lookupLeaf("A", ConfigTypes.INTEGER.getSerializedType()).setValue(BigDecimal.TEN);
+
+		ByteArrayOutputStream bos = new ByteArrayOutputStream();
+		FiberSerialization.serialize(tree, snapshot, bos, jk);
+		assertEquals("{ \"A\": 1, \"child\": { \"B\": \"b\" } }", bos.toString("UTF-8"));
+		assertEquals(ConfigTypes.STRING.getSerializedType(), snapshot.getType("child", "B"));
+	}
+
+	@Test
+	@DisplayName("Sparse documents only hold non-default values")
+	void serializeSparse() throws IOException, FiberException {
+		JanksonValueSerializer jk = new JanksonValueSerializer(true);
+		ConfigTree nodeOne = ConfigTree.builder()
+				.withValue("A", ConfigTypes.INTEGER, 1)
+				.fork("child")
+				.withValue("B", ConfigTypes.INTEGER, 2)
+				.finishBranch()
+				.fork("other")
+				.withValue("C", ConfigTypes.STRING, "default")
+				.finishBranch()
+				.build();
+		ConfigLeaf<BigDecimal> a = nodeOne.lookupLeaf("A", ConfigTypes.INTEGER.getSerializedType());
+		ConfigLeaf<String> c = nodeOne.lookupBranch("other").lookupLeaf("C", ConfigTypes.STRING.getSerializedType());
+		c.setValue("changed");
+		// equal to the default, but a different instance with a different scale
+		a.setValue(new BigDecimal("1.00"));
+
+		ByteArrayOutputStream bos = new ByteArrayOutputStream();
+		FiberSerialization.serializeSparse(nodeOne, bos, jk);
+		assertEquals("{ \"other\": { \"C\": \"changed\" } }", bos.toString("UTF-8"));
+
+		ConfigTree nodeTwo = ConfigTree.builder()
+				.withValue("A", ConfigTypes.INTEGER, 1)
+				.fork("child")
+				.withValue("B", ConfigTypes.INTEGER, 2)
+				.finishBranch()
+				.fork("other")
+				.withValue("C", ConfigTypes.STRING, "default")
+				.finishBranch()
+				.build();
+		nodeTwo.lookupLeaf("A", ConfigTypes.INTEGER.getSerializedType()).setValue(BigDecimal.TEN);
+		nodeTwo.lookupBranch("child").lookupLeaf("B", ConfigTypes.INTEGER.getSerializedType()).setValue(BigDecimal.TEN);
+		FiberSerialization.deserializeSparse(nodeTwo, new ByteArrayInputStream(bos.toByteArray()), jk);
+
+		// absent values are reset to their defaults
+		NodeOperationsTest.testNodeFor(nodeTwo, "A", ConfigTypes.INTEGER.getSerializedType(), BigDecimal.ONE);
+		NodeOperationsTest.testNodeFor(nodeTwo.lookupBranch("child"), "B", ConfigTypes.INTEGER.getSerializedType(), BigDecimal.valueOf(2));
+		NodeOperationsTest.testNodeFor(nodeTwo.lookupBranch("other"), "C", ConfigTypes.STRING.getSerializedType(), "changed");
+
+		// values equal to their default are canonicalized
+		ConfigLeaf<BigDecimal> a2 = nodeTwo.lookupLeaf("A", ConfigTypes.INTEGER.getSerializedType());
+		FiberSerialization.deserializeSparse(nodeTwo, new ByteArrayInputStream("{ \"A\": 1 }".getBytes(StandardCharsets.UTF_8)), jk);
+		assertSame(a2.getDefaultValue(), a2.getValue());
+		a2.setValue(BigDecimal.TEN);
+		FiberSerialization.deserializeSparse(nodeTwo, new ByteArrayInputStream("{ \"A\": 1.0 }".getBytes(StandardCharsets.UTF_8)), jk);
+		assertSame(a2.getDefaultValue(), a2.getValue());
+	}
 }
@@ -0,0 +1,115 @@
+package io.github.fablabsmc.fablabs.api.fiber.v1.serialization;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.github.fablabsmc.fablabs.api.fiber.v1.NodeOperationsTest;
+import io.github.fablabsmc.fablabs.api.fiber.v1.exception.ValueDeserializationException;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.EnumSerializableType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.derived.ConfigTypes;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigTree;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class JsonStreamingDeserializerTest {
+	private static final EnumSerializableType MODE = new EnumSerializableType("FAST", "SLOW");
+
+	private static ConfigTree createTree() {
+		return ConfigTree.builder()
+				.withValue("int", ConfigTypes.INTEGER, 0)
+				.withValue("flag", ConfigTypes.BOOLEAN, false)
+				.withValue("mode", MODE, "FAST")
+				.fork("child")
+				.withValue("ints", ConfigTypes.makeIntArray(ConfigTypes.INTEGER), new int[0])
+				.withValue("names", ConfigTypes.makeMap(ConfigTypes.STRING, ConfigTypes.STRING), Collections.emptyMap())
+				.finishBranch()
+				.withValue("strings", ConfigTypes.makeList(ConfigTypes.STRING), Collections.emptyList())
+				.build();
+	}
+
+	private static void deserialize(ConfigTree tree, String json) throws IOException, ValueDeserializationException {
+		FiberSerialization.deserialize(tree, new JsonStreamingDeserializer(new StringReader(json)));
+	}
+
+	@Test
+	@DisplayName("Streamed input matches Jankson's")
+	void testJanksonParity() throws IOException, ValueDeserializationException {
+		Map<String, String> names = new LinkedHashMap<>();
+		names.put("first", "a \"quoted\" value");
+		names.put("second", "back\\slash\n");
+		ConfigTree source = createTree();
+		source.lookupLeaf("int", ConfigTypes.INTEGER.getSerializedType()).setValue(BigDecimal.TEN);
+		source.lookupLeaf("flag", ConfigTypes.BOOLEAN.getSerializedType()).setValue(true);
+		source.lookupBranch("child").lookupLeaf("names", ConfigTypes.makeMap(ConfigTypes.STRING, ConfigTypes.STRING).getSerializedType()).setValue(names);
+		source.lookupBranch("child").lookupLeaf("ints", ConfigTypes.makeIntArray(ConfigTypes.INTEGER).getSerializedType())
+				.setValue(Arrays.asList(BigDecimal.ONE, BigDecimal.valueOf(-2), BigDecimal.valueOf(3)));
+
+		for (boolean minify : new boolean[] {false, true}) {
+			ByteArrayOutputStream bos = new ByteArrayOutputStream();
+			FiberSerialization.serialize(source, bos, new JanksonValueSerializer(minify));
+			ConfigTree tree = createTree();
+			deserialize(tree, bos.toString("UTF-8"));
+
+			NodeOperationsTest.testNodeFor(tree, "int", ConfigTypes.INTEGER.getSerializedType(), BigDecimal.TEN);
+			NodeOperationsTest.testNodeFor(tree, "flag", ConfigTypes.BOOLEAN.getSerializedType(), true);
+			List<BigDecimal> ints = tree.lookupBranch("child").lookupLeaf("ints", ConfigTypes.makeIntArray(ConfigTypes.INTEGER).getSerializedType()).getValue();
+			assertEquals(Arrays.asList(BigDecimal.ONE, BigDecimal.valueOf(-2), BigDecimal.valueOf(3)), ints);
+			assertEquals(names, tree.lookupBranch("child").lookupLeaf("names", ConfigTypes.makeMap(ConfigTypes.STRING, ConfigTypes.STRING).getSerializedType()).getValue());
+		}
+	}
+
+	@Test
+	@DisplayName("Relaxed syntax is accepted")
+	void testRelaxedSyntax() throws IOException, ValueDeserializationException {
+		ConfigTree tree = createTree();
+		deserialize(tree, "{\n"
+				+ "\t// a line comment\n"
+				+ "\tint: 5,\n"
+				+ "\t/* a block\n\t comment */\n"
+				+ "\tmode: 'SLOW'\n"
+				+ "\tstrings: [\"a\", 'b',],\n"
+				+ "}");
+
+		NodeOperationsTest.testNodeFor(tree, "int", ConfigTypes.INTEGER.getSerializedType(), BigDecimal.valueOf(5));
+		NodeOperationsTest.testNodeFor(tree, "mode", MODE, "SLOW");
+		assertEquals(Arrays.asList("a", "b"), tree.lookupLeaf("strings", ConfigTypes.makeList(ConfigTypes.STRING).getSerializedType()).getValue());
+	}
+
+	@Test
+	@DisplayName("Unknown entries are skipped")
+	void testSkipUnknown() throws IOException, ValueDeserializationException {
+		StringBuilder json = new StringBuilder("{ \"unknown\": { \"nested\": [");
+
+		for (int i = 0; i < 1000; i++) {
+			json.append("{ \"a\": [1, 2.5, true, null, \"s]}\\\"\"] }, ");
+		}
+
+		json.append("{}], \"x\": 'y' }, \"child\": { \"extra\": 1, \"ints\": [4] }, \"int\": 7 }");
+		ConfigTree tree = createTree();
+		deserialize(tree, json.toString());
+
+		NodeOperationsTest.testNodeFor(tree, "int", ConfigTypes.INTEGER.getSerializedType(), BigDecimal.valueOf(7));
+		List<BigDecimal> ints = tree.lookupBranch("child").lookupLeaf("ints", ConfigTypes.makeIntArray(ConfigTypes.INTEGER).getSerializedType()).getValue();
+		assertEquals(Collections.singletonList(BigDecimal.valueOf(4)), ints);
+	}
+
+	@Test
+	@DisplayName("Malformed input is rejected")
+	void testMalformedInput() {
+		assertThrows(ValueDeserializationException.class, () -> deserialize(createTree(), "{ \"int\": }"));
+		assertThrows(ValueDeserializationException.class, () -> deserialize(createTree(), "{ \"int\": 1"));
+		assertThrows(ValueDeserializationException.class, () -> deserialize(createTree(), "{ \"child\": 1 }"));
+		assertThrows(ValueDeserializationException.class, () -> deserialize(createTree(), "{ \"unknown\": [1, 2 }"));
+		assertThrows(ValueDeserializationException.class, () -> deserialize(createTree(), "{ \"strings\": \"unterminated }"));
+	}
+}
@@ -0,0 +1,94 @@
+package io.github.fablabsmc.fablabs.api.fiber.v1.serialization;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.github.fablabsmc.fablabs.api.fiber.v1.NodeOperationsTest;
+import io.github.fablabsmc.fablabs.api.fiber.v1.exception.FiberException;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.EnumSerializableType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.derived.ConfigTypes;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigTree;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class JsonStreamingSerializerTest {
+	private static ConfigTree createTree() {
+		Map<String, String> names = new LinkedHashMap<>();
+		names.put("first", "a \"quoted\" value");
+		names.put("second", "back\\slash");
+		return ConfigTree.builder()
+				.beginValue("int", ConfigTypes.INTEGER, 10)
+				.withComment("An int")
+				.finishValue()
+				.withValue("decimal", ConfigTypes.DOUBLE, 0.25)
+				.withValue("flag", ConfigTypes.BOOLEAN, true)
+				.beginValue("mode", new EnumSerializableType("FAST", "SLOW"), "SLOW")
+				.finishValue()
+				.fork("child")
+				.withComment("A branch")
+				.withValue("ints", ConfigTypes.makeIntArray(ConfigTypes.INTEGER), new int[] {1, 2, 3})
+				.withValue("none", ConfigTypes.makeList(ConfigTypes.STRING), Collections.emptyList())
+				.fork("grandchild")
+				.withValue("names", ConfigTypes.makeMap(ConfigTypes.STRING, ConfigTypes.STRING), names)
+				.finishBranch()
+				.finishBranch()
+				.withValue("strings", ConfigTypes.makeList(ConfigTypes.STRING), Arrays.asList("x", "y"))
+				.build();
+	}
+
+	@Test
+	@DisplayName("Streamed output matches Jankson's")
+	void testJanksonParity() throws IOException {
+		for (boolean minify : new boolean[] {false, true}) {
+			ConfigTree tree = createTree();
+			ByteArrayOutputStream expected = new ByteArrayOutputStream();
+			ByteArrayOutputStream actual = new ByteArrayOutputStream();
+			FiberSerialization.serialize(tree, expected, new JanksonValueSerializer(minify));
+			FiberSerialization.serialize(tree, new JsonStreamingSerializer(actual, minify));
+			assertEquals(expected.toString("UTF-8"), actual.toString("UTF-8"));
+		}
+	}
+
+	@Test
+	@DisplayName("Streamed output can be read back")
+	void testRoundTrip() throws IOException, FiberException {
+		ByteArrayOutputStream bos = new ByteArrayOutputStream();
+		FiberSerialization.serialize(createTree(), new JsonStreamingSerializer(bos, false));
+
+		ConfigTree tree = ConfigTree.builder()
+				.withValue("int", ConfigTypes.INTEGER, 0)
+				.fork("child")
+				.withValue("ints", ConfigTypes.makeIntArray(ConfigTypes.INTEGER), new int[0])
+				.finishBranch()
+				.withValue("strings", ConfigTypes.makeList(ConfigTypes.STRING), Collections.emptyList())
+				.build();
+		FiberSerialization.deserialize(tree, new ByteArrayInputStream(bos.toByteArray()), new JanksonValueSerializer(false));
+
+		NodeOperationsTest.testNodeFor(tree, "int", ConfigTypes.INTEGER.getSerializedType(), BigDecimal.TEN);
+		List<BigDecimal> ints = tree.lookupBranch("child").lookupLeaf("ints", ConfigTypes.makeIntArray(ConfigTypes.INTEGER).getSerializedType()).getValue();
+		assertEquals(Arrays.asList(BigDecimal.ONE, BigDecimal.valueOf(2), BigDecimal.valueOf(3)), ints);
+		assertEquals(Arrays.asList("x", "y"), tree.lookupLeaf("strings", ConfigTypes.makeList(ConfigTypes.STRING).getSerializedType()).getValue());
+	}
+
+	@Test
+	@DisplayName("Malformed event sequences are rejected")
+	void testIllegalEvents() throws IOException {
+		JsonStreamingSerializer serializer = new JsonStreamingSerializer(new StringWriter(), true);
+		serializer.beginObject();
+		assertThrows(IllegalStateException.class, () -> serializer.writeBoolean(true));
+		assertThrows(IllegalStateException.class, serializer::endArray);
+		serializer.field("a", null);
+		assertThrows(IllegalStateException.class, serializer::endObject);
+	}
+}
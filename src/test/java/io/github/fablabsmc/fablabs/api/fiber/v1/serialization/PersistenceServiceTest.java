@@ -0,0 +1,181 @@
+package io.github.fablabsmc.fablabs.api.fiber.v1.serialization;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import blue.endless.jankson.JsonObject;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.derived.ConfigTypes;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigBranch;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigLeaf;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigTree;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PersistenceServiceTest {
+	private static ConfigBranch createTree() {
+		return ConfigTree.builder()
+				.fork("child")
+				.withValue("A", ConfigTypes.INTEGER, 0)
+				.finishBranch()
+				.build();
+	}
+
+	private static ConfigLeaf<BigDecimal> leaf(ConfigBranch tree) {
+		return tree.lookupBranch("child").lookupLeaf("A", ConfigTypes.INTEGER.getSerializedType());
+	}
+
+	private static String read(Path file) throws IOException {
+		return new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+	}
+
+	private static boolean awaitContent(Path file, String expected, long timeoutMillis) throws IOException, InterruptedException {
+		long deadline = System.currentTimeMillis() + timeoutMillis;
+
+		while (System.currentTimeMillis() < deadline) {
+			if (Files.exists(file) && read(file).equals(expected)) {
+				return true;
+			}
+
+			Thread.sleep(10);
+		}
+
+		return false;
+	}
+
+	@Test
+	@DisplayName("Bursts of changes are written once things settle")
+	void testQuietPeriod() throws IOException, InterruptedException {
+		Path dir = Files.createTempDirectory("fiber");
+		Path file = dir.resolve("config.json");
+		ConfigBranch tree = createTree();
+
+		try (PersistenceService service = PersistenceService.start(tree, file, new JanksonValueSerializer(true), 50, 5000, TimeUnit.MILLISECONDS)) {
+			for (int i = 1; i <= 500; i++) {
+				leaf(tree).setValue(BigDecimal.valueOf(i));
+			}
+
+			assertTrue(awaitContent(file, "{ \"child\": { \"A\": 500 } }", 5000));
+			assertFalse(Files.exists(dir.resolve("config.json.tmp")));
+		}
+	}
+
+	@Test
+	@DisplayName("Continuous changes are written after the maximum latency")
+	void testMaxLatency() throws IOException, InterruptedException {
+		Path file = Files.createTempDirectory("fiber").resolve("config.json");
+		ConfigBranch tree = createTree();
+
+		try (PersistenceService service = PersistenceService.start(tree, file, new JanksonValueSerializer(true), 1, 100, TimeUnit.SECONDS)) {
+			leaf(tree).setValue(BigDecimal.ONE);
+			// the quiet period has not elapsed yet
+			Thread.sleep(100);
+			assertFalse(Files.exists(file));
+		}
+
+		// written on close
+		Files.delete(file);
+
+		try (PersistenceService service = PersistenceService.start(tree, file, new JanksonValueSerializer(true), 200, 400, TimeUnit.MILLISECONDS)) {
+			long deadline = System.currentTimeMillis() + 5000;
+			int i = 0;
+
+			// changes keep coming well within the quiet period
+			while (!Files.exists(file) && System.currentTimeMillis() < deadline) {
+				leaf(tree).setValue(BigDecimal.valueOf(++i));
+				Thread.sleep(10);
+			}
+
+			assertTrue(Files.exists(file));
+			assertTrue(i > 1);
+		}
+
+		assertThrows(IllegalArgumentException.class, () -> PersistenceService.start(tree, file, new JanksonValueSerializer(true), 2, 1, TimeUnit.SECONDS));
+	}
+
+	@Test
+	@DisplayName("Failed writes are recorded and retried")
+	void testFailureRetry() throws IOException, InterruptedException {
+		Path file = Files.createTempDirectory("fiber").resolve("config.json");
+		ConfigBranch tree = createTree();
+		AtomicBoolean failing = new AtomicBoolean(true);
+		JanksonValueSerializer serializer = new JanksonValueSerializer(true) {
+			@Override
+			public void writeTarget(JsonObject target, OutputStream out) throws IOException {
+				if (failing.get()) {
+					throw new IllegalStateException("Serialization failure");
+				}
+
+				super.writeTarget(target, out);
+			}
+		};
+
+		try (PersistenceService service = PersistenceService.start(tree, file, serializer, 10, 50, TimeUnit.MILLISECONDS)) {
+			leaf(tree).setValue(BigDecimal.valueOf(3));
+			long deadline = System.currentTimeMillis() + 5000;
+
+			while (service.getLastFailure() == null && System.currentTimeMillis() < deadline) {
+				Thread.sleep(10);
+			}
+
+			assertTrue(service.getLastFailure() instanceof IllegalStateException);
+			failing.set(false);
+			// no further change is needed for the write to be retried
+			assertTrue(awaitContent(file, "{ \"child\": { \"A\": 3 } }", 5000));
+			assertNull(service.getLastFailure());
+		}
+	}
+
+	@Test
+	@DisplayName("Writes are tracked without consuming dirty flags")
+	void testChangeTracking() throws IOException {
+		Path file = Files.createTempDirectory("fiber").resolve("config.json");
+		ConfigBranch tree = createTree();
+
+		try (PersistenceService service = PersistenceService.start(tree, file, new JanksonValueSerializer(true), 1, 1, TimeUnit.HOURS)) {
+			leaf(tree).setValue(BigDecimal.ONE);
+			service.flush();
+			assertEquals("{ \"child\": { \"A\": 1 } }", read(file));
+			// other consumers still see the change
+			assertTrue(tree.isDirty());
+			assertTrue(leaf(tree).isDirty());
+
+			Files.delete(file);
+			leaf(tree).setValue(BigDecimal.TEN);
+			leaf(tree).setValue(BigDecimal.ONE);
+			service.flush();
+			assertFalse(Files.exists(file), "The tree holds the values already written");
+		}
+	}
+
+	@Test
+	@DisplayName("Closing the service writes pending changes")
+	void testClose() throws IOException {
+		Path file = Files.createTempDirectory("fiber").resolve("config.json");
+		ConfigBranch tree = createTree();
+		PersistenceService service = PersistenceService.start(tree, file, new JanksonValueSerializer(true), 1, 1, TimeUnit.HOURS);
+		service.flush();
+		assertFalse(Files.exists(file), "Nothing changed, nothing should be written");
+
+		leaf(tree).setValue(BigDecimal.TEN);
+		assertFalse(Files.exists(file));
+		service.close();
+		assertEquals("{ \"child\": { \"A\": 10 } }", read(file));
+
+		// no longer watching
+		leaf(tree).setValue(BigDecimal.ONE);
+		service.flush();
+		assertEquals("{ \"child\": { \"A\": 10 } }", read(file));
+	}
+}
@@ -0,0 +1,87 @@
+package io.github.fablabsmc.fablabs.api.fiber.v1.tree;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.github.fablabsmc.fablabs.api.fiber.v1.exception.ValueDeserializationException;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.derived.ConfigTypes;
+import io.github.fablabsmc.fablabs.api.fiber.v1.serialization.FiberSerialization;
+import io.github.fablabsmc.fablabs.api.fiber.v1.serialization.JanksonValueSerializer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ConfigSnapshotTest {
+	private static ConfigBranch createTree() {
+		return ConfigTree.builder()
+				.fork("a")
+				.withValue("x", ConfigTypes.INTEGER, 1)
+				.finishBranch()
+				.fork("b")
+				.withValue("y", ConfigTypes.STRING, "y")
+				.finishBranch()
+				.build();
+	}
+
+	@Test
+	@DisplayName("Unchanged subtrees are shared between snapshots")
+	void testStructuralSharing() {
+		ConfigBranch tree = createTree();
+		ConfigSnapshot first = ConfigSnapshot.of(tree);
+
+		assertSame(first, ConfigSnapshot.of(tree, first));
+
+		tree.lookupBranch("a").lookupLeaf("x", ConfigTypes.INTEGER.getSerializedType()).setValue(BigDecimal.valueOf(2));
+		ConfigSnapshot second = ConfigSnapshot.of(tree, first);
+
+		assertNotSame(first, second);
+		assertNotSame(first.getBranch("a"), second.getBranch("a"));
+		assertSame(first.getBranch("b"), second.getBranch("b"));
+		assertEquals(Optional.of(BigDecimal.ONE), first.getValue(ConfigTypes.INTEGER.getSerializedType(), "a", "x"));
+		assertEquals(Optional.of(BigDecimal.valueOf(2)), second.getValue(ConfigTypes.INTEGER.getSerializedType(), "a", "x"));
+		assertFalse(second.getValue(ConfigTypes.STRING.getSerializedType(), "a", "x").isPresent());
+	}
+
+	@Test
+	@DisplayName("Deserialization publishes a new snapshot")
+	void testDeserializePublishes() throws IOException, ValueDeserializationException {
+		ConfigBranch tree = createTree();
+		ConfigSnapshot initial = ConfigSnapshot.of(tree);
+		AtomicReference<ConfigSnapshot> published = new AtomicReference<>(initial);
+		byte[] input = "{ \"b\": { \"y\": \"z\" } }".getBytes(StandardCharsets.UTF_8);
+
+		ConfigSnapshot reloaded = FiberSerialization.deserialize(tree, new ByteArrayInputStream(input), new JanksonValueSerializer(false), published);
+
+		assertSame(reloaded, published.get());
+		assertSame(initial.getBranch("a"), reloaded.getBranch("a"));
+		assertEquals(Optional.of("y"), initial.getValue(ConfigTypes.STRING.getSerializedType(), "b", "y"));
+		assertEquals(Optional.of("z"), reloaded.getValue(ConfigTypes.STRING.getSerializedType(), "b", "y"));
+	}
+
+	@Test
+	@DisplayName("Reloaded snapshots only hold decoded values")
+	void testDeserializeIsolation() throws IOException, ValueDeserializationException {
+		ConfigBranch tree = createTree();
+		AtomicReference<ConfigSnapshot> published = new AtomicReference<>(ConfigSnapshot.of(tree));
+		// a concurrent write that is not part of the reload
+		tree.lookupBranch("a").lookupLeaf("x", ConfigTypes.INTEGER.getSerializedType()).setValue(BigDecimal.TEN);
+
+		ConfigSnapshot first = FiberSerialization.deserialize(tree, new ByteArrayInputStream("{ \"b\": { \"y\": \"z\" } }".getBytes(StandardCharsets.UTF_8)), new JanksonValueSerializer(false), published);
+		assertEquals(Optional.of(BigDecimal.ONE), first.getValue(ConfigTypes.INTEGER.getSerializedType(), "a", "x"));
+
+		// a second reload builds on the first one instead of replacing it
+		ConfigSnapshot second = FiberSerialization.deserialize(tree, new ByteArrayInputStream("{ \"a\": { \"x\": 2 } }".getBytes(StandardCharsets.UTF_8)), new JanksonValueSerializer(false), published);
+		assertSame(second, published.get());
+		assertEquals(Optional.of(BigDecimal.valueOf(2)), second.getValue(ConfigTypes.INTEGER.getSerializedType(), "a", "x"));
+		assertEquals(Optional.of("z"), second.getValue(ConfigTypes.STRING.getSerializedType(), "b", "y"));
+		assertSame(first.getBranch("b"), second.getBranch("b"));
+	}
+}
@@ -0,0 +1,68 @@
+package io.github.fablabsmc.fablabs.impl.fiber.tree;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import io.github.fablabsmc.fablabs.api.fiber.v1.FiberId;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.derived.ConfigTypes;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigAttribute;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AttributeMapTest {
+	@Test
+	@DisplayName("Attributes are ordered by their id's string representation")
+	void testOrdering() {
+		String[] parts = {"a", "a.b", "a:b", "ab", "b", "", "a-", "z"};
+		Random random = new Random(42);
+		Map<FiberId, ConfigAttribute<?>> expected = new TreeMap<>(Comparator.comparing(FiberId::toString));
+		AttributeMap actual = new AttributeMap();
+
+		for (int i = 0; i < 100; i++) {
+			FiberId id = new FiberId(parts[random.nextInt(parts.length)], parts[random.nextInt(parts.length)]);
+			ConfigAttribute<String> attribute = ConfigAttribute.create(id, ConfigTypes.STRING, "value" + i);
+
+			if (random.nextInt(4) == 0) {
+				assertSame(expected.remove(id), actual.remove(id));
+			} else {
+				assertSame(expected.put(id, attribute), actual.put(id, attribute));
+			}
+
+			assertEquals(new ArrayList<>(expected.entrySet()), new ArrayList<>(actual.entrySet()));
+		}
+
+		for (Iterator<Map.Entry<FiberId, ConfigAttribute<?>>> it = actual.entrySet().iterator(); it.hasNext(); ) {
+			FiberId id = it.next().getKey();
+			it.remove();
+			assertNull(actual.get(id));
+		}
+
+		assertEquals(0, actual.size());
+	}
+
+	@Test
+	@DisplayName("Attribute ids are interned")
+	void testInterning() {
+		FiberId canonical = FiberId.of("test", "interned");
+		FiberId copy = new FiberId("test", "interned");
+		AttributeMap map = new AttributeMap();
+		map.put(copy, ConfigAttribute.create(copy, ConfigTypes.STRING, "value"));
+
+		assertSame(canonical, map.keySet().iterator().next());
+		assertSame(canonical, copy.intern());
+		assertEquals(canonical.toString(), copy.toString());
+		// lookups do not require canonical ids
+		ConfigAttribute<?> attribute = map.get(canonical);
+		assertNotNull(attribute);
+		assertSame(attribute, map.get(new FiberId("test", "interned")));
+	}
+}
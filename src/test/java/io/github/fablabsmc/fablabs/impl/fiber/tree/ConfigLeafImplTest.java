@@ -0,0 +1,201 @@
+package io.github.fablabsmc.fablabs.impl.fiber.tree;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiConsumer;
+
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.DecimalSerializableType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.StringSerializableType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.derived.ConfigTypes;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigBranch;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigLeaf;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigTree;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ListenerHandle;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.PropertyMirror;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ConfigLeafImplTest {
+	@Test
+	@DisplayName("Concurrent updates are each observed exactly once")
+	public void testConcurrentSetValue() throws InterruptedException, ExecutionException {
+		final int threads = 4;
+		final int updates = 2500;
+		ConcurrentLinkedQueue<BigDecimal[]> changes = new ConcurrentLinkedQueue<>();
+		ConfigLeafImpl<BigDecimal> leaf = new ConfigLeafImpl<>("leaf", new DecimalSerializableType(null, null, null), null, BigDecimal.valueOf(-1), (o, n) -> { });
+		leaf.addChangeListener((o, n) -> changes.add(new BigDecimal[] {o, n}));
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		List<Future<?>> workers = new ArrayList<>();
+
+		try {
+			for (int t = 0; t < threads; t++) {
+				final int offset = t * updates;
+				workers.add(executor.submit(() -> {
+					start.await();
+
+					for (int i = 0; i < updates; i++) {
+						assertTrue(leaf.setValue(BigDecimal.valueOf(offset + i)));
+					}
+
+					return null;
+				}));
+			}
+
+			start.countDown();
+
+			// rethrows assertion failures from the workers
+			for (Future<?> worker : workers) {
+				worker.get();
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		// every value replaces exactly one previous value, forming a single chain from the default to the final value
+		Set<BigDecimal> oldValues = new HashSet<>();
+		Set<BigDecimal> newValues = new HashSet<>();
+
+		for (BigDecimal[] change : changes) {
+			assertTrue(oldValues.add(change[0]));
+			assertTrue(newValues.add(change[1]));
+		}
+
+		assertEquals(threads * updates, newValues.size());
+		assertTrue(oldValues.remove(BigDecimal.valueOf(-1)));
+		assertTrue(newValues.remove(leaf.getValue()));
+		assertEquals(oldValues, newValues);
+	}
+
+	@Test
+	@DisplayName("Listeners can be removed and added during notification")
+	public void testListenerRegistration() {
+		List<String> calls = new ArrayList<>();
+		ConfigLeafImpl<String> leaf = new ConfigLeafImpl<>("leaf", StringSerializableType.DEFAULT_STRING, null, "a", (o, n) -> calls.add("initial " + n));
+		ListenerHandle first = leaf.addChangeListenerHandle((o, n) -> calls.add("first " + n));
+		leaf.addChangeListener((o, n) -> {
+			if (n.equals("b")) leaf.addChangeListener((o2, n2) -> calls.add("late " + n2));
+		});
+
+		leaf.setValue("b");
+		assertTrue(first.remove());
+		assertFalse(first.remove());
+		leaf.setValue("c");
+
+		List<String> expected = new ArrayList<>();
+		expected.add("initial a");
+		expected.add("initial b");
+		expected.add("first b");
+		expected.add("initial c");
+		expected.add("late c");
+		assertEquals(expected, calls);
+	}
+
+	@Test
+	@DisplayName("Handles remove their own registration of a listener")
+	public void testDuplicateListenerRemoval() {
+		List<String> calls = new ArrayList<>();
+		ConfigLeafImpl<String> leaf = new ConfigLeafImpl<>("leaf", StringSerializableType.DEFAULT_STRING, null, "a", (o, n) -> { });
+		BiConsumer<String, String> repeated = (o, n) -> calls.add("repeated " + n);
+		ListenerHandle first = leaf.addChangeListenerHandle(repeated);
+		leaf.addChangeListener((o, n) -> calls.add("other " + n));
+		ListenerHandle second = leaf.addChangeListenerHandle(repeated);
+
+		assertTrue(second.remove());
+		leaf.setValue("b");
+		assertTrue(first.remove());
+		leaf.setValue("c");
+
+		assertEquals(Arrays.asList("repeated b", "other b", "other c"), calls);
+	}
+
+	@Test
+	@DisplayName("Setting a value makes the leaf and its ancestors dirty")
+	public void testDirtyPropagation() {
+		ConfigBranch root = ConfigTree.builder()
+				.fork("child")
+				.withValue("a", ConfigTypes.INTEGER, 1)
+				.fork("separate").withSeparateSerialization()
+				.withValue("b", ConfigTypes.INTEGER, 2)
+				.finishBranch()
+				.finishBranch()
+				.build();
+		ConfigBranch child = root.lookupBranch("child");
+		ConfigBranch separate = child.lookupBranch("separate");
+		ConfigLeaf<BigDecimal> a = child.lookupLeaf("a", ConfigTypes.INTEGER.getSerializedType());
+		ConfigLeaf<BigDecimal> b = separate.lookupLeaf("b", ConfigTypes.INTEGER.getSerializedType());
+		assertTrue(root.isDirty() && child.isDirty() && a.isDirty(), "New nodes are dirty");
+
+		assertTrue(root.clearDirty());
+		assertFalse(child.isDirty() || a.isDirty(), "Clearing a branch clears its subtree");
+		assertTrue(separate.isDirty() && b.isDirty(), "Separately serialized branches are cleared on their own");
+		assertTrue(separate.clearDirty());
+		assertFalse(b.isDirty());
+
+		a.setValue(BigDecimal.TEN);
+		assertTrue(root.isDirty() && child.isDirty() && a.isDirty());
+		assertFalse(separate.isDirty() || b.isDirty());
+
+		root.clearDirty();
+		b.setValue(BigDecimal.ONE);
+		assertTrue(separate.isDirty() && b.isDirty());
+		assertFalse(root.isDirty() || child.isDirty(), "Separately serialized branches do not dirty their ancestors");
+
+		assertTrue(b.clearDirty());
+		assertFalse(b.clearDirty());
+
+		// changes after a subtree was cleared make its ancestors dirty again
+		a.setValue(BigDecimal.ONE);
+		assertTrue(root.isDirty() && child.isDirty());
+	}
+
+	@Test
+	@DisplayName("Stored lists and maps cannot be modified")
+	public void testImmutableValues() {
+		List<BigDecimal> source = new ArrayList<>(Arrays.asList(BigDecimal.ONE, BigDecimal.TEN));
+		ConfigBranch root = ConfigTree.builder()
+				.withValue("list", ConfigTypes.makeList(ConfigTypes.INTEGER), Arrays.asList(1, 2))
+				.withValue("map", ConfigTypes.makeMap(ConfigTypes.STRING, ConfigTypes.makeList(ConfigTypes.STRING)), Collections.singletonMap("a", Collections.singletonList("b")))
+				.build();
+		ConfigLeaf<List<BigDecimal>> list = root.lookupLeaf("list", ConfigTypes.makeList(ConfigTypes.INTEGER).getSerializedType());
+		ConfigLeaf<Map<String, List<String>>> map = root.lookupLeaf("map", ConfigTypes.makeMap(ConfigTypes.STRING, ConfigTypes.makeList(ConfigTypes.STRING)).getSerializedType());
+		PropertyMirror<List<Integer>> mirror = PropertyMirror.create(ConfigTypes.makeList(ConfigTypes.INTEGER));
+		mirror.mirror(list);
+
+		assertSame(list.getDefaultValue(), list.getValue());
+		assertThrows(UnsupportedOperationException.class, () -> list.getValue().add(BigDecimal.ZERO));
+		assertThrows(UnsupportedOperationException.class, () -> map.getValue().put("c", Collections.emptyList()));
+		assertThrows(UnsupportedOperationException.class, () -> map.getValue().get("a").add("c"));
+
+		assertTrue(list.setValue(source));
+		List<Integer> runtime = mirror.getValue();
+		assertEquals(1, (int) runtime.get(0));
+		source.set(1, BigDecimal.ZERO);
+		assertEquals(Arrays.asList(1, 10), runtime);
+		assertEquals(Arrays.asList(BigDecimal.ONE, BigDecimal.TEN), list.getValue());
+
+		// values applied by transactions are copied as well
+		assertTrue(root.beginTransaction().stage(list, source).commit());
+		source.set(0, BigDecimal.ZERO);
+		assertEquals(Arrays.asList(BigDecimal.ONE, BigDecimal.ZERO), list.getValue());
+		assertThrows(UnsupportedOperationException.class, () -> list.getValue().set(0, BigDecimal.ONE));
+	}
+}
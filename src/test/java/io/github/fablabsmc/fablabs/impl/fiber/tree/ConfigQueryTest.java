@@ -2,14 +2,21 @@ package io.github.fablabsmc.fablabs.impl.fiber.tree;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.math.BigDecimal;
+import java.util.Arrays;
 import java.util.concurrent.atomic.AtomicReference;
 
 import io.github.fablabsmc.fablabs.api.fiber.v1.exception.FiberQueryException;
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.derived.ConfigTypes;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.BoundConfigQuery;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigBranch;
 import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigLeaf;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigNode;
 import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigQuery;
 import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigTree;
 import org.junit.jupiter.api.Test;
@@ -46,4 +53,59 @@ class ConfigQueryTest {
 		assertThrows(FiberQueryException.WrongType.class, () -> query5.run(tree));
 		assertFalse(query5.search(tree).isPresent());
 	}
+
+	@Test
+	void runIndexed() throws FiberQueryException {
+		ConfigBranch tree = ConfigTree.builder()
+				.withPathIndex()
+				.fork("child")
+				.fork("stuff")
+				.withValue("A", ConfigTypes.INTEGER, 10)
+				.finishBranch()
+				.finishBranch()
+				.build();
+		ConfigQuery<ConfigLeaf<BigDecimal>> query = ConfigQuery.leaf(ConfigTypes.INTEGER.getSerializedType(), "child", "stuff", "A");
+		ConfigBranch stuff = ConfigQuery.branch("child", "stuff").run(tree);
+		assertSame(stuff.lookup("A"), query.run(tree));
+
+		ConfigNode removed = stuff.getItems().removeByName("A");
+		assertNull(tree.lookupPath(Arrays.asList("child", "stuff", "A")));
+		assertThrows(FiberQueryException.MissingChild.class, () -> query.run(tree));
+
+		stuff.getItems().add(removed);
+		assertSame(removed, query.run(tree));
+
+		ConfigBranch child = tree.lookupBranch("child");
+		child.detach();
+		assertNull(tree.lookupPath(Arrays.asList("child", "stuff")));
+		assertFalse(query.search(tree).isPresent());
+
+		ConfigBranch other = new ConfigBranchImpl("other", null);
+		tree.getItems().add(other);
+		other.getItems().add(child);
+		assertSame(removed, tree.lookupPath(Arrays.asList("other", "child", "stuff", "A")));
+	}
+
+	@Test
+	void bind() throws FiberQueryException {
+		ConfigBranch tree = ConfigTree.builder()
+				.fork("child")
+				.withValue("A", ConfigTypes.INTEGER, 10)
+				.finishBranch()
+				.build();
+		BoundConfigQuery<ConfigLeaf<BigDecimal>> bound = ConfigQuery.leaf(ConfigTypes.INTEGER.getSerializedType(), "child", "A").bind(tree);
+		ConfigLeaf<BigDecimal> first = bound.run();
+		assertSame(first, bound.run());
+
+		long version = tree.getStructureVersion();
+		ConfigBranch child = tree.lookupBranch("child");
+		child.getItems().remove(first);
+		assertTrue(tree.getStructureVersion() != version);
+		assertThrows(FiberQueryException.MissingChild.class, bound::run);
+
+		ConfigLeaf<BigDecimal> second = new ConfigLeafImpl<>("A", ConfigTypes.INTEGER.getSerializedType(), null, BigDecimal.ONE, (o, n) -> { });
+		child.getItems().add(second);
+		assertSame(second, bound.run());
+		assertSame(second, bound.search().orElse(null));
+	}
 }
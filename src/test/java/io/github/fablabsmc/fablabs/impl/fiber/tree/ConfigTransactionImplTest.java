@@ -0,0 +1,159 @@
+package io.github.fablabsmc.fablabs.impl.fiber.tree;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.github.fablabsmc.fablabs.api.fiber.v1.exception.FiberQueryException;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.EnumSerializableType;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.derived.ConfigTypes;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigBranch;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigLeaf;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigQuery;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigSnapshot;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigTree;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ConfigTransactionImplTest {
+	private static final EnumSerializableType MODE = new EnumSerializableType("FAST", "SLOW");
+
+	@Test
+	@DisplayName("Committed values are all applied before listeners are notified once")
+	void testCommitNotifiesOnce() throws FiberQueryException {
+		ConfigBranch tree = ConfigTree.builder()
+				.fork("a")
+				.withValue("x", ConfigTypes.INTEGER, 1)
+				.beginValue("mode", MODE, "FAST")
+				.finishValue()
+				.finishBranch()
+				.withValue("y", ConfigTypes.INTEGER, 2)
+				.build();
+		ConfigLeaf<BigDecimal> x = ConfigQuery.leaf(ConfigTypes.INTEGER.getSerializedType(), "a", "x").run(tree);
+		ConfigLeaf<BigDecimal> y = tree.lookupLeaf("y", ConfigTypes.INTEGER.getSerializedType());
+		AtomicInteger xCalls = new AtomicInteger();
+		List<Set<ConfigLeaf<?>>> rootChanges = new ArrayList<>();
+		List<Set<ConfigLeaf<?>>> branchChanges = new ArrayList<>();
+		x.addChangeListener((o, n) -> xCalls.incrementAndGet());
+		tree.addSubtreeListener(rootChanges::add);
+		tree.lookupBranch("a").addSubtreeListener(branchChanges::add);
+
+		assertTrue(tree.beginTransaction()
+				.stage(x, BigDecimal.valueOf(5))
+				.stage(x, BigDecimal.valueOf(10))
+				.stage(y, BigDecimal.valueOf(20))
+				.stage(ConfigQuery.leaf(MODE, "a", "mode"), "slow")
+				.commit());
+
+		assertEquals(BigDecimal.valueOf(10), x.getValue());
+		assertEquals(BigDecimal.valueOf(20), y.getValue());
+		assertEquals("SLOW", ConfigQuery.leaf(MODE, "a", "mode").run(tree).getValue());
+		assertEquals(1, xCalls.get());
+		assertEquals(1, rootChanges.size());
+		assertEquals(3, rootChanges.get(0).size());
+		assertEquals(1, branchChanges.size());
+		assertEquals(new HashSet<>(Arrays.asList(x, tree.lookupBranch("a").lookup("mode"))), branchChanges.get(0));
+
+		y.setValue(BigDecimal.ONE);
+		assertEquals(2, rootChanges.size());
+		assertEquals(1, branchChanges.size());
+	}
+
+	@Test
+	@DisplayName("Committed values are published together in a snapshot")
+	void testCommitPublishes() {
+		ConfigBranch tree = ConfigTree.builder()
+				.fork("a")
+				.withValue("x", ConfigTypes.INTEGER, 1)
+				.finishBranch()
+				.fork("b")
+				.withValue("y", ConfigTypes.INTEGER, 2)
+				.finishBranch()
+				.withValue("z", ConfigTypes.INTEGER, 3)
+				.beginValue("mode", MODE, "FAST")
+				.finishValue()
+				.build();
+		ConfigLeaf<BigDecimal> x = tree.lookupBranch("a").lookupLeaf("x", ConfigTypes.INTEGER.getSerializedType());
+		ConfigLeaf<BigDecimal> z = tree.lookupLeaf("z", ConfigTypes.INTEGER.getSerializedType());
+		ConfigSnapshot initial = ConfigSnapshot.of(tree);
+		AtomicReference<ConfigSnapshot> published = new AtomicReference<>(initial);
+		List<ConfigSnapshot> seenByListeners = new ArrayList<>();
+		x.addChangeListener((o, n) -> seenByListeners.add(published.get()));
+		// written outside of the transaction, must not leak into its snapshot
+		tree.lookupBranch("b").lookupLeaf("y", ConfigTypes.INTEGER.getSerializedType()).setValue(BigDecimal.TEN);
+
+		ConfigSnapshot committed = tree.beginTransaction()
+				.stage(x, BigDecimal.valueOf(5))
+				.stage(z, BigDecimal.valueOf(6))
+				.commit(published);
+
+		assertSame(committed, published.get());
+		assertEquals(Collections.singletonList(committed), seenByListeners);
+		assertEquals(Optional.of(BigDecimal.valueOf(5)), committed.getValue(ConfigTypes.INTEGER.getSerializedType(), "a", "x"));
+		assertEquals(Optional.of(BigDecimal.valueOf(6)), committed.getValue(ConfigTypes.INTEGER.getSerializedType(), "z"));
+		assertSame(initial.getBranch("b"), committed.getBranch("b"));
+		assertEquals(Optional.of(BigDecimal.valueOf(2)), committed.getValue(ConfigTypes.INTEGER.getSerializedType(), "b", "y"));
+
+		assertNull(tree.beginTransaction().stage(x, BigDecimal.valueOf(-1)).stage(tree.lookupLeaf("mode", MODE), "MEDIUM").commit(published));
+		assertSame(committed, published.get());
+	}
+
+	@Test
+	@DisplayName("Invalid values roll back the transaction")
+	void testRollback() {
+		ConfigBranch tree = ConfigTree.builder()
+				.withValue("x", ConfigTypes.INTEGER, 1)
+				.beginValue("mode", MODE, "FAST")
+				.finishValue()
+				.build();
+		ConfigLeaf<BigDecimal> x = tree.lookupLeaf("x", ConfigTypes.INTEGER.getSerializedType());
+		ConfigLeaf<String> mode = tree.lookupLeaf("mode", MODE);
+		AtomicInteger calls = new AtomicInteger();
+		tree.addSubtreeListener(changed -> calls.incrementAndGet());
+
+		assertFalse(tree.beginTransaction()
+				.stage(x, BigDecimal.valueOf(5))
+				.stage(mode, "MEDIUM")
+				.commit());
+
+		assertEquals(BigDecimal.ONE, x.getValue());
+		assertEquals("FAST", mode.getValue());
+		assertEquals(0, calls.get());
+	}
+
+	@Test
+	@DisplayName("Only leaves of the transaction's tree can be staged")
+	void testForeignLeaf() {
+		ConfigBranch tree = ConfigTree.builder()
+				.fork("a")
+				.withValue("x", ConfigTypes.INTEGER, 1)
+				.finishBranch()
+				.withValue("y", ConfigTypes.INTEGER, 2)
+				.build();
+		ConfigLeaf<BigDecimal> other = ConfigTree.builder()
+				.withValue("x", ConfigTypes.INTEGER, 1)
+				.build()
+				.lookupLeaf("x", ConfigTypes.INTEGER.getSerializedType());
+		ConfigLeaf<BigDecimal> y = tree.lookupLeaf("y", ConfigTypes.INTEGER.getSerializedType());
+
+		assertThrows(IllegalArgumentException.class, () -> tree.beginTransaction().stage(other, BigDecimal.TEN));
+		// a subtree's transaction cannot update its ancestors' leaves
+		assertThrows(IllegalArgumentException.class, () -> tree.lookupBranch("a").beginTransaction().stage(y, BigDecimal.TEN));
+		assertEquals(BigDecimal.ONE, other.getValue());
+		assertEquals(BigDecimal.valueOf(2), y.getValue());
+	}
+}
@@ -0,0 +1,173 @@
+package io.github.fablabsmc.fablabs.impl.fiber.tree;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.lang.ref.WeakReference;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.derived.ConfigTypes;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.BooleanPropertyMirror;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigAttribute;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigLeaf;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigTree;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.NumberPropertyMirror;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class NumberPropertyMirrorImplTest {
+	@Test
+	@DisplayName("Primitive accessors follow the mirrored leaf")
+	void testLeafMirror() {
+		NumberPropertyMirror<Integer> mirror = NumberPropertyMirror.create(ConfigTypes.INTEGER.withValidRange(0, 10, 1));
+		BooleanPropertyMirror flag = BooleanPropertyMirror.create(ConfigTypes.BOOLEAN);
+		ConfigTree tree = ConfigTree.builder()
+				.withMirroredValue("value", mirror, 5)
+				.withMirroredValue("flag", flag, false)
+				.build();
+
+		assertEquals(5, mirror.getInt());
+		assertEquals(5L, mirror.getLong());
+		assertEquals(5.0, mirror.getDouble());
+		assertEquals(5, (int) mirror.getValue());
+
+		assertTrue(mirror.setInt(20));
+		assertEquals(10, mirror.getInt());
+		assertEquals(10, (int) mirror.getValue());
+
+		assertTrue(mirror.setDouble(2.4));
+		assertEquals(2, mirror.getInt());
+
+		assertFalse(flag.getBoolean());
+		assertTrue(flag.setBoolean(true));
+		assertTrue(flag.getBoolean());
+		assertTrue(flag.getValue());
+
+		NumberPropertyMirror<Integer> other = NumberPropertyMirror.create(ConfigTypes.INTEGER);
+		assertTrue(tree.lookupAndBind("value", other));
+		assertTrue(other.setInt(7));
+		assertEquals(7, mirror.getInt());
+	}
+
+	@Test
+	@DisplayName("Primitive writes skip unchanged values")
+	void testPrimitiveWrites() {
+		NumberPropertyMirror<Integer> mirror = NumberPropertyMirror.create(ConfigTypes.INTEGER.withValidRange(0, 10, 2));
+		ConfigTree tree = ConfigTree.builder()
+				.withMirroredValue("value", mirror, 4)
+				.build();
+		ConfigLeaf<BigDecimal> leaf = tree.lookupLeaf("value", ConfigTypes.INTEGER.withValidRange(0, 10, 2).getSerializedType());
+		List<BigDecimal> changes = new ArrayList<>();
+		leaf.addChangeListener((o, n) -> changes.add(n));
+		long stamp = leaf.getModificationStamp();
+
+		assertTrue(mirror.setInt(4));
+		assertTrue(mirror.setLong(4));
+		assertTrue(mirror.setDouble(4.0));
+		assertEquals(stamp, leaf.getModificationStamp());
+		assertTrue(changes.isEmpty());
+
+		assertTrue(mirror.setLong(6));
+		assertTrue(mirror.setDouble(8.0));
+		// corrected through the leaf
+		assertTrue(mirror.setInt(20));
+		assertTrue(mirror.setInt(3));
+		assertEquals(Arrays.asList(BigDecimal.valueOf(6), BigDecimal.valueOf(8.0), BigDecimal.valueOf(10), BigDecimal.valueOf(4)), changes);
+		assertEquals(4, mirror.getInt());
+		assertEquals(4.0, mirror.getDouble());
+	}
+
+	@Test
+	@DisplayName("Primitive accessors read other properties directly")
+	void testAttributeMirror() {
+		ConfigAttribute<BigDecimal> attribute = ConfigAttribute.create(null, ConfigTypes.DOUBLE, 1.5);
+		NumberPropertyMirror<Double> mirror = NumberPropertyMirror.create(ConfigTypes.DOUBLE);
+		mirror.mirror(attribute);
+
+		assertEquals(1.5, mirror.getDouble());
+		assertTrue(mirror.setLong(3));
+		assertEquals(3.0, mirror.getDouble());
+		assertEquals(3.0, (double) mirror.getValue());
+	}
+
+	@Test
+	@DisplayName("Rebinding mirrors does not grow listener lists")
+	void testRebinding() {
+		NumberPropertyMirror<Integer> mirror = NumberPropertyMirror.create(ConfigTypes.INTEGER);
+		ConfigTree tree = ConfigTree.builder()
+				.withValue("a", ConfigTypes.INTEGER, 1)
+				.withValue("b", ConfigTypes.INTEGER, 2)
+				.build();
+		ConfigLeafImpl<?> a = (ConfigLeafImpl<?>) tree.lookupLeaf("a", ConfigTypes.INTEGER.getSerializedType());
+		ConfigLeafImpl<?> b = (ConfigLeafImpl<?>) tree.lookupLeaf("b", ConfigTypes.INTEGER.getSerializedType());
+		int initialCount = a.getListenerCount();
+
+		for (int i = 0; i < 100_000; i++) {
+			mirror.mirror(i % 2 == 0 ? a : b);
+			assertTrue(mirror.setInt(i));
+		}
+
+		assertEquals(initialCount, a.getListenerCount());
+		assertEquals(initialCount + 1, b.getListenerCount());
+		assertEquals(99_999, mirror.getInt());
+	}
+
+	@Test
+	@DisplayName("Notifications from a previous delegate are ignored")
+	void testStaleNotification() {
+		NumberPropertyMirror<Integer> mirror = NumberPropertyMirror.create(ConfigTypes.INTEGER);
+		BooleanPropertyMirror flag = BooleanPropertyMirror.create(ConfigTypes.BOOLEAN);
+		ConfigTree tree = ConfigTree.builder()
+				.withValue("a", ConfigTypes.INTEGER, 1)
+				.withValue("b", ConfigTypes.INTEGER, 2)
+				.withValue("c", ConfigTypes.BOOLEAN, false)
+				.withValue("d", ConfigTypes.BOOLEAN, false)
+				.build();
+		ConfigLeaf<BigDecimal> a = tree.lookupLeaf("a", ConfigTypes.INTEGER.getSerializedType());
+		ConfigLeaf<BigDecimal> b = tree.lookupLeaf("b", ConfigTypes.INTEGER.getSerializedType());
+		ConfigLeaf<Boolean> c = tree.lookupLeaf("c", ConfigTypes.BOOLEAN.getSerializedType());
+		ConfigLeaf<Boolean> d = tree.lookupLeaf("d", ConfigTypes.BOOLEAN.getSerializedType());
+		// rebinding from a listener that runs before the mirror's own, which is then notified anyway
+		a.addChangeListener((oldValue, newValue) -> mirror.mirror(b));
+		c.addChangeListener((oldValue, newValue) -> flag.mirror(d));
+		mirror.mirror(a);
+		flag.mirror(c);
+
+		assertTrue(a.setValue(BigDecimal.TEN));
+		assertEquals(2, mirror.getInt());
+		assertTrue(c.setValue(true));
+		assertFalse(flag.getBoolean());
+	}
+
+	@Test
+	@DisplayName("Unreachable mirrors are unbound")
+	void testWeakBinding() throws InterruptedException {
+		ConfigLeafImpl<BigDecimal> leaf = (ConfigLeafImpl<BigDecimal>) ConfigTree.builder()
+				.withValue("a", ConfigTypes.INTEGER, 1)
+				.build()
+				.lookupLeaf("a", ConfigTypes.INTEGER.getSerializedType());
+		int initialCount = leaf.getListenerCount();
+		WeakReference<NumberPropertyMirror<Integer>> ref = bindAndForget(leaf);
+		assertEquals(initialCount + 1, leaf.getListenerCount());
+
+		for (int i = 0; i < 50 && ref.get() != null; i++) {
+			System.gc();
+			Thread.sleep(10);
+		}
+
+		assumeTrue(ref.get() == null, "Mirror was not collected");
+		assertTrue(leaf.setValue(BigDecimal.TEN));
+		assertEquals(initialCount, leaf.getListenerCount());
+	}
+
+	private static WeakReference<NumberPropertyMirror<Integer>> bindAndForget(ConfigLeafImpl<BigDecimal> leaf) {
+		NumberPropertyMirror<Integer> mirror = NumberPropertyMirror.create(ConfigTypes.INTEGER);
+		mirror.mirror(leaf);
+		return new WeakReference<>(mirror);
+	}
+}
@@ -1,10 +1,20 @@
 package io.github.fablabsmc.fablabs.impl.fiber.tree;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
 import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.derived.ConfigTypes;
+import io.github.fablabsmc.fablabs.api.fiber.v1.schema.type.derived.ListConfigType;
 import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigAttribute;
+import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigLeaf;
 import io.github.fablabsmc.fablabs.api.fiber.v1.tree.ConfigTree;
 import io.github.fablabsmc.fablabs.api.fiber.v1.tree.PropertyMirror;
 import org.junit.jupiter.api.DisplayName;
@@ -52,4 +62,34 @@ class PropertyMirrorImplTest {
 		assertTrue(mirror.setValue(false));
 		assertFalse(mirror.getValue());
 	}
+
+	@Test
+	@DisplayName("Cached values follow modification stamps")
+	public void testModificationStamp() {
+		ListConfigType<List<Integer>, BigDecimal> type = ConfigTypes.makeList(ConfigTypes.INTEGER);
+		ConfigAttribute<List<BigDecimal>> attribute = ConfigAttribute.create(null, type.getSerializedType(), Collections.singletonList(BigDecimal.ONE));
+		PropertyMirror<List<Integer>> mirror = PropertyMirror.create(type);
+		mirror.mirror(attribute);
+
+		long stamp = mirror.getModificationStamp();
+		List<Integer> value = mirror.getValue();
+		assertEquals(Collections.singletonList(1), value);
+		assertSame(value, mirror.getValue());
+
+		// an equal value still counts as a modification
+		assertTrue(attribute.setValue(Collections.singletonList(BigDecimal.ONE)));
+		assertTrue(mirror.getModificationStamp() > stamp);
+		assertNotSame(value, mirror.getValue());
+
+		ConfigLeaf<List<BigDecimal>> leaf = ConfigTree.builder()
+				.beginValue("leaf", type, Collections.singletonList(2))
+				.finishValue(mirror::mirror)
+				.build()
+				.lookupLeaf("leaf", type.getSerializedType());
+		assertEquals(Collections.singletonList(2), mirror.getValue());
+		stamp = leaf.getModificationStamp();
+		assertTrue(mirror.setValue(Arrays.asList(3, 4)));
+		assertEquals(stamp + 1, leaf.getModificationStamp());
+		assertEquals(Arrays.asList(3, 4), mirror.getValue());
+	}
 }